@@ -0,0 +1,265 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.ManiApplication;
+import com.pathtomani.common.Const;
+import com.pathtomani.common.ManiMath;
+import com.pathtomani.entities.asteroid.Asteroid;
+import com.pathtomani.entities.planet.Planet;
+import com.pathtomani.entities.ship.FarShip;
+import com.pathtomani.entities.ship.ManiShip;
+import com.pathtomani.game.DebugOptions;
+import com.pathtomani.game.Faction;
+import com.pathtomani.game.ManiGame;
+import com.pathtomani.game.ShipConfig;
+import com.pathtomani.game.TickTimes;
+import com.pathtomani.managers.input.AiPilot;
+import com.pathtomani.managers.input.StillGuard;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs scripted scenarios of the real game without a window, a GPU or sound, and writes the per-subsystem
+ * tick times collected by {@link TickTimes} to a CSV file.
+ * <p>
+ * Usage: ManiBenchmark [ticks] [scenario ...]. Without scenarios, all of them are run.
+ * The configs and textures are loaded from main/res, GL calls go to a no-op implementation and nothing is drawn.
+ */
+public class ManiBenchmark {
+    private static final long SEED = 42;
+    private static final int DEFAULT_TICKS = 3000;
+    private static final int WARMUP_TICKS = 300;
+    private static final String OUTPUT_FILE = "benchmark.csv";
+
+    public static void main(String[] argv) {
+        int ticks = argv.length > 0 ? Integer.parseInt(argv[0]) : DEFAULT_TICKS;
+        List<Scenario> scenarios = new ArrayList<Scenario>();
+        for (int i = 1; i < argv.length; i++) {
+            scenarios.add(Scenario.valueOf(argv[i].toUpperCase()));
+        }
+        if (scenarios.isEmpty()) {
+            for (Scenario s : Scenario.values()) {
+                scenarios.add(s);
+            }
+        }
+
+        if (Files.exists(Paths.get("devBuild"))) {
+            DebugOptions.DEV_ROOT_PATH = "main/";
+        }
+        new HeadlessApplication(new Runner(scenarios, ticks), new HeadlessApplicationConfiguration());
+    }
+
+    private enum Scenario {
+        FLEET_BATTLE("") {
+            @Override
+            void populate(ManiGame game) {
+                ShipConfig cfg = game.getPlayerSpawnConfig().shipConfig;
+                Vector2 heroPos = game.getHero().getPosition();
+                for (int i = 0; i < FLEET_SZ; i++) {
+                    float y = (i - FLEET_SZ / 2) * 2 * cfg.hull.getApproxRadius();
+                    addFighter(game, cfg, Faction.LAANI, heroPos.x - FLEET_DIST, heroPos.y + y, 0);
+                    addFighter(game, cfg, Faction.EHAR, heroPos.x + FLEET_DIST, heroPos.y + y, 180);
+                }
+            }
+        },
+        ASTEROID_BELT("") {
+            @Override
+            void populate(ManiGame game) {
+                Vector2 heroPos = game.getHero().getPosition();
+                Vector2 pos = new Vector2();
+                Vector2 spd = new Vector2();
+                for (int i = 0; i < ASTEROID_COUNT; i++) {
+                    float angle = ManiMath.rnd(180);
+                    ManiMath.fromAl(pos, angle, ManiMath.rnd(BELT_MIN_RAD, BELT_MAX_RAD));
+                    pos.add(heroPos);
+                    ManiMath.fromAl(spd, angle + 90, ManiMath.rnd(.1f, 1f));
+                    Asteroid a = game.getAsteroidBuilder().buildNew(game, pos, spd, ManiMath.rnd(.1f, 1f), null);
+                    game.getObjMan().addObjDelayed(a);
+                }
+            }
+        },
+        PLANET_APPROACH("planet") {
+            @Override
+            void populate(ManiGame game) {
+                ManiShip hero = game.getHero();
+                Planet p = game.getPlanetMan().getPlanets().get(0);
+                Vector2 spd = new Vector2();
+                ManiMath.fromAl(spd, ManiMath.angle(hero.getPosition(), p.getPos()), Const.MAX_MOVE_SPD / 4);
+                hero.getHull().getBody().setLinearVelocity(spd);
+            }
+        },
+        MAZE("maze") {
+            @Override
+            void populate(ManiGame game) {
+            }
+        };
+
+        private static final int FLEET_SZ = 10;
+        private static final float FLEET_DIST = 8;
+        private static final int ASTEROID_COUNT = 150;
+        private static final float BELT_MIN_RAD = 5;
+        private static final float BELT_MAX_RAD = 25;
+
+        final String spawnPlace;
+
+        Scenario(String spawnPlace) {
+            this.spawnPlace = spawnPlace;
+        }
+
+        /**
+         * Called once the hero is in the game
+         */
+        abstract void populate(ManiGame game);
+
+        private static void addFighter(ManiGame game, ShipConfig cfg, Faction faction, float x, float y, float angle) {
+            Vector2 pos = new Vector2(x, y);
+            AiPilot pilot = new AiPilot(new StillGuard(pos, game, cfg), true, faction, true, null, Const.AI_DET_DIST);
+            FarShip ship = game.getShipBuilder().buildNewFar(game, pos, null, angle, 0, pilot, cfg.items, cfg.hull,
+                null, false, 0, null, true);
+            game.getObjMan().addFarObjNow(ship);
+        }
+    }
+
+    private static class Runner extends ApplicationAdapter {
+        private final List<Scenario> myScenarios;
+        private final int myTicks;
+
+        public Runner(List<Scenario> scenarios, int ticks) {
+            myScenarios = scenarios;
+            myTicks = ticks;
+        }
+
+        @Override
+        public void create() {
+            Gdx.gl = createNoGl();
+            Gdx.gl20 = Gdx.gl;
+            Gdx.graphics = new ScreenGraphics();
+            DebugOptions.read(null);
+            DebugOptions.NO_SOUND = true;
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("scenario,tick,");
+            TickTimes.appendCsvHeader(sb);
+            sb.append('\n');
+            try {
+                for (Scenario scenario : myScenarios) {
+                    run(scenario, sb);
+                }
+                Files.write(Paths.get(OUTPUT_FILE), sb.toString().getBytes(Charset.forName("UTF-8")));
+                System.out.println("Benchmark results written to " + Paths.get(OUTPUT_FILE).toAbsolutePath());
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                Gdx.app.exit();
+            }
+        }
+
+        private void run(Scenario scenario, StringBuilder sb) {
+            System.out.println("Running " + scenario);
+            MathUtils.random.setSeed(SEED);
+            DebugOptions.SPAWN_PLACE = scenario.spawnPlace;
+
+            ManiApplication app = new ManiApplication();
+            app.create();
+            app.startNewGame(false, false);
+            ManiGame game = app.getGame();
+            // the hero is added to the game during the first update
+            game.update();
+            scenario.populate(game);
+
+            TickTimes tickTimes = game.getTickTimes();
+            for (int i = 0; i < WARMUP_TICKS + myTicks; i++) {
+                tickTimes.setEnabled(i >= WARMUP_TICKS);
+                game.update();
+                ManiMath.checkVectorsTaken(null);
+                if (!tickTimes.isEnabled()) continue;
+                sb.append(scenario.name().toLowerCase()).append(',').append(i - WARMUP_TICKS).append(',');
+                tickTimes.appendCsvRow(sb);
+                sb.append('\n');
+            }
+            // releases everything the next scenario's application would otherwise be measured on top of
+            app.finishGame(false);
+            app.dispose();
+        }
+    }
+
+    /**
+     * The mock graphics report a zero sized screen, which the cameras and layouts can't work with
+     */
+    private static class ScreenGraphics extends MockGraphics {
+        private static final int WIDTH = 1280;
+        private static final int HEIGHT = 720;
+
+        @Override
+        public int getWidth() {
+            return WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return HEIGHT;
+        }
+    }
+
+    /**
+     * A GL20 that accepts every call and does nothing. Object names are non-zero and shaders report
+     * successful compilation and linking, so that textures, meshes and sprite batches can be created.
+     */
+    private static GL20 createNoGl() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                String name = method.getName();
+                Class<?> type = method.getReturnType();
+                if ("glGetShaderiv".equals(name) || "glGetProgramiv".equals(name)) {
+                    int pname = (Integer) args[1];
+                    IntBuffer params = (IntBuffer) args[2];
+                    boolean ok = pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS;
+                    params.put(params.position(), ok ? 1 : 0);
+                    return null;
+                }
+                if (type == int.class) {
+                    if ("glGetError".equals(name)) return GL20.GL_NO_ERROR;
+                    if ("glCheckFramebufferStatus".equals(name)) return GL20.GL_FRAMEBUFFER_COMPLETE;
+                    return 1;
+                }
+                if (type == boolean.class) return false;
+                if (type == float.class) return 0f;
+                if (type == String.class) return "";
+                return null;
+            }
+        });
+    }
+}
@@ -24,6 +24,8 @@
 import com.badlogic.gdx.physics.box2d.Box2D;
 import com.pathtomani.common.*;
 import com.pathtomani.game.ManiGame;
+import com.pathtomani.managers.files.ContentCache;
+import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.managers.sound.MusicManager;
 import com.pathtomani.gfx.CommonDrawer;
 import com.pathtomani.gfx.ManiColor;
@@ -35,11 +37,21 @@
 import com.pathtomani.ui.DebugCollector;
 import com.pathtomani.ui.FontSize;
 import com.pathtomani.ui.ManiLayouts;
+import com.pathtomani.ui.ProfilerOverlay;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 
 public class ManiApplication implements ApplicationListener {
+  /**
+   * after a hitch, at most this many updates are run in one frame, the rest of the lag is dropped
+   */
+  private static final int MAX_CATCH_UP_STEPS = 5;
+  private static final int UPDATE_SCOPE = Profiler.register("update");
+  private static final int DRAW_SCOPE = Profiler.register("draw");
+  private static final int UI_SCOPE = Profiler.register("ui");
+  private static final String ALLOC_CSV = "allocations.csv";
+  private static final String ALLOC_SITES_CSV = "allocationSites.csv";
 
   private ManiInputManager myInputMan;
   private UiDrawer myUiDrawer;
@@ -50,6 +62,7 @@ public class ManiApplication implements ApplicationListener {
   private GameOptions myOptions;
   private CommonDrawer myCommonDrawer;
   private FPSLogger  myFpsLogger;
+  private ProfilerOverlay myProfilerOverlay;
 
   private String myFatalErrorMsg;
   private String myFatalErrorTrace;
@@ -80,6 +93,12 @@ public void create() {
 
     myInputMan.setScreen(this, myMenuScreens.main);
     myFpsLogger = new FPSLogger();
+    Profiler.setEnabled(DebugOptions.PROFILER);
+    if (DebugOptions.ALLOC_INFO) {
+      AllocTracker.setEnabled(true);
+      AllocTracker.setCsvFile(FileManager.getInstance().getDynamicFile(ALLOC_CSV));
+    }
+    myProfilerOverlay = new ProfilerOverlay();
   }
 
   @Override
@@ -88,13 +107,17 @@ public void resize(int i, int i1) {
   }
 
   public void render() {
+    Profiler.beginFrame();
     myAccum += Gdx.graphics.getDeltaTime();
+    float maxAccum = MAX_CATCH_UP_STEPS * Const.REAL_TIME_STEP;
+    if (maxAccum < myAccum) myAccum = maxAccum;
     while (myAccum > Const.REAL_TIME_STEP) {
       safeUpdate();
       myAccum -= Const.REAL_TIME_STEP;
 
     }
-    draw();
+    draw(myAccum / Const.REAL_TIME_STEP);
+    Profiler.endFrame();
   }
 
   @Override
@@ -110,7 +133,9 @@ public void resume() {
   private void safeUpdate() {
     if (myFatalErrorMsg != null) return;
     try {
+      Profiler.begin(UPDATE_SCOPE);
       update();
+      Profiler.end(UPDATE_SCOPE);
     } catch (Throwable t) {
       t.printStackTrace();
       myFatalErrorMsg = "A fatal error occurred:\n" + t.getMessage();
@@ -131,6 +156,26 @@ private void update() {
       DebugCollector.debug("Fps", Gdx.graphics.getFramesPerSecond());
       myFpsLogger.log();
     }
+    if (DebugOptions.DRAW_INFO) {
+      DebugCollector.debug("Flushes", myCommonDrawer.getFrameFlushes());
+      DebugCollector.debug("Texture switches", myCommonDrawer.getFrameTexSwitches());
+      DebugCollector.debug("Blend switches", myCommonDrawer.getFrameBlendSwitches());
+      DebugCollector.debug("Text layouts", myCommonDrawer.getFrameTextLayouts());
+    }
+    if (DebugOptions.TEX_INFO) {
+      DebugCollector.debug("Texture lookups", myTextureManager.getLookups());
+      DebugCollector.debug("Texture provider lookups", myTextureManager.getProviderLookups());
+      DebugCollector.debug("Atlas MB resident", myTextureManager.getResidentMb());
+      DebugCollector.debug("Atlas page loads", myTextureManager.getPageLoads());
+      DebugCollector.debug("Atlas page evictions", myTextureManager.getPageEvictions());
+    }
+    if (DebugOptions.ALLOC_INFO) {
+      AllocTracker.update();
+      DebugCollector.debug("Allocations", "per second");
+      for (int i = 0, sz = AllocTracker.getCounterCount(); i < sz; i++) {
+        DebugCollector.debug(AllocTracker.getName(i), AllocTracker.getRate(i));
+      }
+    }
     myInputMan.update(this);
     if (myGame != null) {
       myGame.update();
@@ -139,27 +184,33 @@ private void update() {
     ManiMath.checkVectorsTaken(null);
   }
 
-  private void draw() {
+  private void draw(float alpha) {
     Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
     myCommonDrawer.begin();
+    Profiler.begin(DRAW_SCOPE);
     if (myGame != null) {
-      myGame.draw();
+      myGame.draw(alpha);
     }
+    Profiler.end(DRAW_SCOPE);
+    Profiler.begin(UI_SCOPE);
     myUiDrawer.updateMtx();
     myInputMan.draw(myUiDrawer, this);
     if (myGame != null) {
       myGame.drawDebugUi(myUiDrawer);
     }
+    Profiler.end(UI_SCOPE);
     if (myFatalErrorMsg != null) {
       myUiDrawer.draw(myUiDrawer.whiteTex, myUiDrawer.r, .5f, 0, 0, 0, .25f, 0, ManiColor.UI_BG);
       myUiDrawer.drawString(myFatalErrorMsg, myUiDrawer.r / 2, .5f, FontSize.MENU, true, ManiColor.W);
       myUiDrawer.drawString(myFatalErrorTrace, .2f * myUiDrawer.r, .6f, FontSize.DEBUG, false, ManiColor.W);
     }
     DebugCollector.draw(myUiDrawer);
+    myProfilerOverlay.draw(myUiDrawer);
     if (myGame == null) {
       myUiDrawer.drawString("version: " + Const.VERSION, 0.01f, .98f, FontSize.DEBUG, false, ManiColor.W);
     }
     myCommonDrawer.end();
+    myTextureManager.onFrameEnd();
   }
 
   public void loadNewGame(boolean tut, boolean usePrevShip) {
@@ -171,6 +222,7 @@ public void loadNewGame(boolean tut, boolean usePrevShip) {
 
   public void startNewGame(boolean tut, boolean usePrevShip) {
     myGame = new ManiGame(this, usePrevShip, myTextureManager, tut, myCommonDrawer);
+    ContentCache.clearPreloaded();
     myInputMan.setScreen(this, myGame.getScreens().mainScreen);
     MusicManager.getInstance().PlayGameMusic(myOptions);
   }
@@ -188,6 +240,7 @@ public void dispose() {
     if (myGame != null) myGame.onGameEnd();
     myTextureManager.dispose();
     myInputMan.dispose();
+    if (AllocTracker.isEnabled()) AllocTracker.writeSites(FileManager.getInstance().getDynamicFile(ALLOC_SITES_CSV));
   }
 
   public ManiGame getGame() {
@@ -199,7 +252,15 @@ public ManiLayouts getLayouts() {
   }
 
   public void finishGame() {
-    myGame.onGameEnd();
+    finishGame(true);
+  }
+
+  /**
+   * @param saveShip false to end the game without overwriting the saved ship, e.g. after a benchmark run
+   */
+  public void finishGame(boolean saveShip) {
+    if (saveShip) myGame.saveShip();
+    myGame.dispose();
     myGame = null;
     myInputMan.setScreen(this, myMenuScreens.main);
   }
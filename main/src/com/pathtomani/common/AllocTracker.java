@@ -0,0 +1,223 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.common;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts allocations in the hot paths: vector pool traffic, fresh vectors, colors and lists, and the construction of
+ * the short lived game objects. The counts are turned into per second rates once a second and optionally appended
+ * to a CSV file. When enabled, the code location of every vector pool acquire and free is recorded too, which is slow
+ * and allocates by itself, so it's meant for hunting leaks and GC pressure, not for measuring frame times.
+ * Does nothing until enabled.
+ */
+public class AllocTracker {
+  public static final int MAX_COUNTERS = 32;
+  private static final long WINDOW = 1000000000L;
+
+  private static final String[] myNames = new String[MAX_COUNTERS];
+  private static final int[] myCounts = new int[MAX_COUNTERS];
+  private static final int[] myRates = new int[MAX_COUNTERS];
+  private static int myCounterCount;
+
+  public static final int VEC_OBTAIN = register("vec obtain");
+  public static final int VEC_FREE = register("vec free");
+  public static final int VEC_POOL_NEW = register("vec pool new");
+  public static final int VECTOR = register("Vector2");
+  public static final int COLOR = register("Color");
+  public static final int ARRAY_LIST = register("ArrayList");
+
+  private static final Map<StackTraceElement, int[]> mySites = new HashMap<StackTraceElement, int[]>();
+  private static boolean myEnabled;
+  private static long myWindowStart;
+  private static long myStart;
+  private static FileHandle myCsv;
+  private static int myCsvColumns;
+
+  private AllocTracker() {
+  }
+
+  /**
+   * @return the id of the counter with the given name, the same name always gets the same id
+   */
+  public static int register(String name) {
+    for (int i = 0; i < myCounterCount; i++) {
+      if (myNames[i].equals(name)) return i;
+    }
+    if (myCounterCount == MAX_COUNTERS) throw new AssertionError("too many allocation counters");
+    myNames[myCounterCount] = name;
+    return myCounterCount++;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    myEnabled = enabled;
+    myStart = TimeUtils.nanoTime();
+    myWindowStart = myStart;
+  }
+
+  public static boolean isEnabled() {
+    return myEnabled;
+  }
+
+  /**
+   * @param csv the file the rates are appended to once a second, or null to not write them. The file is overwritten.
+   */
+  public static void setCsvFile(FileHandle csv) {
+    myCsv = csv;
+    myCsvColumns = 0;
+    if (csv != null) csv.writeString("", false);
+  }
+
+  public static void count(int counter) {
+    count(counter, 1);
+  }
+
+  public static void count(int counter, int amount) {
+    if (!myEnabled) return;
+    myCounts[counter] += amount;
+  }
+
+  /**
+   * The factories below count the allocation where it's made, use them for every vector, color and list created
+   * in a counted constructor, including the ones passed to other constructors.
+   */
+  public static Vector2 newVec() {
+    count(VECTOR);
+    return new Vector2();
+  }
+
+  public static Vector2 newVec(Vector2 v) {
+    count(VECTOR);
+    return new Vector2(v);
+  }
+
+  public static Color newColor(Color col) {
+    count(COLOR);
+    return new Color(col);
+  }
+
+  public static <T> ArrayList<T> newList() {
+    count(ARRAY_LIST);
+    return new ArrayList<T>();
+  }
+
+  /**
+   * Counts a vector pool acquire or free and records where it happened.
+   */
+  static void countVec(boolean obtain) {
+    if (!myEnabled) return;
+    recordVec(obtain);
+  }
+
+  // the vector pools are per thread, so this may be called from several threads at once
+  private static synchronized void recordVec(boolean obtain) {
+    myCounts[obtain ? VEC_OBTAIN : VEC_FREE]++;
+    StackTraceElement site = findSite(new Throwable().getStackTrace());
+    if (site == null) return;
+    int[] siteCounts = mySites.get(site);
+    if (siteCounts == null) {
+      siteCounts = new int[2];
+      mySites.put(site, siteCounts);
+    }
+    siteCounts[obtain ? 0 : 1]++;
+  }
+
+  private static StackTraceElement findSite(StackTraceElement[] trace) {
+    for (StackTraceElement e : trace) {
+      String cls = e.getClassName();
+      if (!cls.equals(AllocTracker.class.getName()) && !cls.equals(ManiMath.class.getName())) return e;
+    }
+    return null;
+  }
+
+  /**
+   * Call once per update. Once a second turns the counts into rates and writes them to the CSV file.
+   */
+  public static void update() {
+    if (!myEnabled) return;
+    long now = TimeUtils.nanoTime();
+    long elapsed = now - myWindowStart;
+    if (elapsed < WINDOW) return;
+    for (int i = 0; i < myCounterCount; i++) {
+      myRates[i] = (int) (myCounts[i] * WINDOW / elapsed);
+      myCounts[i] = 0;
+    }
+    myWindowStart = now;
+    if (myCsv == null) return;
+    StringBuilder sb = new StringBuilder();
+    // counters are registered when their classes load, so a new header is written whenever more columns appear
+    if (myCsvColumns != myCounterCount) {
+      myCsvColumns = myCounterCount;
+      sb.append("time");
+      for (int i = 0; i < myCounterCount; i++) {
+        sb.append(',').append(myNames[i]);
+      }
+      sb.append('\n');
+    }
+    sb.append((now - myStart) / WINDOW);
+    for (int i = 0; i < myCounterCount; i++) {
+      sb.append(',').append(myRates[i]);
+    }
+    myCsv.writeString(sb.append('\n').toString(), true);
+  }
+
+  public static int getCounterCount() {
+    return myCounterCount;
+  }
+
+  public static String getName(int counter) {
+    return myNames[counter];
+  }
+
+  /**
+   * @return the count per second during the latest complete second
+   */
+  public static int getRate(int counter) {
+    return myRates[counter];
+  }
+
+  /**
+   * Writes the recorded vector pool sites, the busiest first, with their acquire and free counts.
+   * A site that acquires more than it frees (or the other way round) is a part of an imbalance.
+   */
+  public static synchronized void writeSites(FileHandle file) {
+    ArrayList<Map.Entry<StackTraceElement, int[]>> sites = new ArrayList<Map.Entry<StackTraceElement, int[]>>(mySites.entrySet());
+    Collections.sort(sites, new Comparator<Map.Entry<StackTraceElement, int[]>>() {
+      @Override
+      public int compare(Map.Entry<StackTraceElement, int[]> a, Map.Entry<StackTraceElement, int[]> b) {
+        int[] ac = a.getValue();
+        int[] bc = b.getValue();
+        return Integer.compare(bc[0] + bc[1], ac[0] + ac[1]);
+      }
+    });
+    StringBuilder sb = new StringBuilder("site,obtained,freed\n");
+    for (Map.Entry<StackTraceElement, int[]> e : sites) {
+      int[] c = e.getValue();
+      sb.append(e.getKey()).append(',').append(c[0]).append(',').append(c[1]).append('\n');
+    }
+    file.writeString(sb.toString(), false);
+  }
+}
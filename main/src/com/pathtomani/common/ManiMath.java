@@ -32,14 +32,15 @@ public class ManiMath {
   public static final float PI = MathUtils.PI;
   public static float radDeg = MathUtils.radDeg;
   public static float degRad = MathUtils.degRad;
-  public static Pool<Vector2> vs = new Pool<Vector2>() {
+  /**
+   * each thread gets its own vector pool, so the math helpers can be used from worker threads without locking
+   */
+  private static final ThreadLocal<VecPool> POOLS = new ThreadLocal<VecPool>() {
     @Override
-    protected Vector2 newObject() {
-      return new Vector2();
+    protected VecPool initialValue() {
+      return new VecPool();
     }
   };
-  public static int VECTORS_TAKEN;
-  public static Vector2 tmp = new Vector2();
 
   public static int toInt(boolean b) {
     return b ? 1 : -1;
@@ -196,8 +197,10 @@ public static Vector2 getVec(Vector2 src) {
    */
   @Bound
   public static Vector2 getVec(float x, float y) {
-    VECTORS_TAKEN++;
-    Vector2 v = vs.obtain();
+    VecPool pool = POOLS.get();
+    pool.taken++;
+    AllocTracker.countVec(true);
+    Vector2 v = pool.obtain();
     v.set(x, y);
     return v;
   }
@@ -206,8 +209,17 @@ public static Vector2 getVec(float x, float y) {
    * frees the bound vector. Don't use this vector after freeing!
    */
   public static void free(Vector2 v) {
-    VECTORS_TAKEN--;
-    vs.free(v);
+    VecPool pool = POOLS.get();
+    pool.taken--;
+    AllocTracker.countVec(false);
+    pool.free(v);
+  }
+
+  /**
+   * @return the number of bound vectors taken and not yet freed by the current thread
+   */
+  public static int getVectorsTaken() {
+    return POOLS.get().taken;
   }
 
   /**
@@ -350,6 +362,7 @@ public static float angle(Vector2 from, Vector2 to) {
    * @return angle between 2 vectors. may be negative. if not precise, approximation is returned
    */
   public static float angle(Vector2 from, Vector2 to, boolean precise) {
+    Vector2 tmp = POOLS.get().tmp;
     tmp.set(to);
     tmp.sub(from);
     return angle(tmp, precise);
@@ -417,8 +430,12 @@ public static <T> T elemRnd(List<T> list) {
     return list.get(idx);
   }
 
+  /**
+   * checks that the current thread has freed all the bound vectors it has taken
+   */
   public static void checkVectorsTaken(Object o) {
-    if (ManiMath.VECTORS_TAKEN != 0) throw new AssertionError("vectors " + ManiMath.VECTORS_TAKEN + ", blame on " + o);
+    int taken = getVectorsTaken();
+    if (taken != 0) throw new AssertionError("vectors " + taken + ", blame on " + o);
   }
 
   /**
@@ -479,4 +496,15 @@ public static String nice(float v) {
     if (dec < 0) dec = -dec;
     return whole + "." + dec;
   }
+
+  private static class VecPool extends Pool<Vector2> {
+    public final Vector2 tmp = new Vector2();
+    public int taken;
+
+    @Override
+    protected Vector2 newObject() {
+      AllocTracker.count(AllocTracker.VEC_POOL_NEW);
+      return new Vector2();
+    }
+  }
 }
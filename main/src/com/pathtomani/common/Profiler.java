@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.common;
+
+import java.util.Arrays;
+
+/**
+ * Frame profiler with nested scopes. Scopes are registered once and then entered by their id, so measuring doesn't allocate.
+ * The time spent in each scope is summed per frame and kept for the last {@link #HISTORY_SZ} frames.
+ * Does nothing until enabled.
+ */
+public class Profiler {
+  public static final int MAX_SCOPES = 64;
+  public static final int MAX_DEPTH = 16;
+  public static final int HISTORY_SZ = 120;
+
+  private static final String[] myNames = new String[MAX_SCOPES];
+  private static int myScopeCount;
+
+  private static final int[] myStack = new int[MAX_DEPTH];
+  private static final long[] myStackStarts = new long[MAX_DEPTH];
+  private static int myDepth;
+
+  private static final long[] myTotals = new long[MAX_SCOPES];
+  private static final long[] myFirstStarts = new long[MAX_SCOPES];
+  private static final int[] myDepths = new int[MAX_SCOPES];
+  private static long myFrameStart;
+
+  private static final long[][] myHistory = new long[HISTORY_SZ][MAX_SCOPES];
+  private static final long[][] myHistoryStarts = new long[HISTORY_SZ][MAX_SCOPES];
+  private static final long[] myFrameTimes = new long[HISTORY_SZ];
+  private static int myHistoryIdx;
+  private static int myHistoryCount;
+  private static final long[] myScratch = new long[HISTORY_SZ];
+
+  private static boolean myEnabled;
+
+  private Profiler() {
+  }
+
+  /**
+   * @return the id of the scope with the given name, the same name always gets the same id
+   */
+  public static int register(String name) {
+    for (int i = 0; i < myScopeCount; i++) {
+      if (myNames[i].equals(name)) return i;
+    }
+    if (myScopeCount == MAX_SCOPES) throw new AssertionError("too many profiler scopes");
+    myNames[myScopeCount] = name;
+    myDepths[myScopeCount] = -1;
+    return myScopeCount++;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    myEnabled = enabled;
+  }
+
+  public static boolean isEnabled() {
+    return myEnabled;
+  }
+
+  public static void beginFrame() {
+    if (!myEnabled) return;
+    myDepth = 0;
+    for (int i = 0; i < myScopeCount; i++) {
+      myTotals[i] = 0;
+      myFirstStarts[i] = -1;
+    }
+    myFrameStart = System.nanoTime();
+  }
+
+  public static void endFrame() {
+    if (!myEnabled) return;
+    long[] totals = myHistory[myHistoryIdx];
+    long[] starts = myHistoryStarts[myHistoryIdx];
+    System.arraycopy(myTotals, 0, totals, 0, myScopeCount);
+    System.arraycopy(myFirstStarts, 0, starts, 0, myScopeCount);
+    myFrameTimes[myHistoryIdx] = System.nanoTime() - myFrameStart;
+    myHistoryIdx = (myHistoryIdx + 1) % HISTORY_SZ;
+    if (myHistoryCount < HISTORY_SZ) myHistoryCount++;
+  }
+
+  public static void begin(int scope) {
+    if (!myEnabled) return;
+    if (myDepth == MAX_DEPTH) throw new AssertionError("profiler scopes nested too deep");
+    long now = System.nanoTime();
+    if (myFirstStarts[scope] < 0) myFirstStarts[scope] = now - myFrameStart;
+    if (myDepths[scope] < 0) myDepths[scope] = myDepth;
+    myStack[myDepth] = scope;
+    myStackStarts[myDepth] = now;
+    myDepth++;
+  }
+
+  public static void end(int scope) {
+    if (!myEnabled) return;
+    if (myDepth == 0 || myStack[myDepth - 1] != scope) {
+      throw new AssertionError("profiler scope " + myNames[scope] + " ended out of order");
+    }
+    myDepth--;
+    myTotals[scope] += System.nanoTime() - myStackStarts[myDepth];
+  }
+
+  public static int getScopeCount() {
+    return myScopeCount;
+  }
+
+  public static String getName(int scope) {
+    return myNames[scope];
+  }
+
+  /**
+   * @return the nesting depth of the scope when it was first entered, or -1 if it wasn't entered yet
+   */
+  public static int getDepth(int scope) {
+    return myDepths[scope];
+  }
+
+  /**
+   * @return the time spent in the scope during the latest complete frame, in nanoseconds
+   */
+  public static long getLast(int scope) {
+    return myHistory[lastIdx()][scope];
+  }
+
+  /**
+   * @return when the scope was first entered during the latest complete frame, in nanoseconds from the frame start,
+   * or -1 if it wasn't entered
+   */
+  public static long getLastStart(int scope) {
+    return myHistoryStarts[lastIdx()][scope];
+  }
+
+  public static long getLastFrameTime() {
+    return myFrameTimes[lastIdx()];
+  }
+
+  /**
+   * @param perc between 0 and 1
+   * @return the given percentile of the time spent in the scope per frame over the recorded history, in nanoseconds
+   */
+  public static long getPercentile(int scope, float perc) {
+    if (myHistoryCount == 0) return 0;
+    for (int i = 0; i < myHistoryCount; i++) {
+      myScratch[i] = myHistory[i][scope];
+    }
+    Arrays.sort(myScratch, 0, myHistoryCount);
+    int idx = (int) (perc * (myHistoryCount - 1));
+    return myScratch[idx];
+  }
+
+  private static int lastIdx() {
+    return (myHistoryIdx + HISTORY_SZ - 1) % HISTORY_SZ;
+  }
+}
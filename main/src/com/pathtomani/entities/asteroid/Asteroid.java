@@ -178,16 +178,11 @@ private void maybeSplit(ManiGame game) {
     float sclSum = 0;
     while (sclSum < .7f * mySize * mySize) {
       float spdAngle = ManiMath.rnd(180);
-      Vector2 spd = new Vector2();
-      ManiMath.fromAl(spd, spdAngle, ManiMath.rnd(0, .5f) *MAX_SPLIT_SPD);
-      spd.add(mySpd);
-      Vector2 newPos = new Vector2();
-      ManiMath.fromAl(newPos, spdAngle, ManiMath.rnd(0, mySize / 2));
-      newPos.add(myPos);
+      float spdLen = ManiMath.rnd(0, .5f) * MAX_SPLIT_SPD;
+      float dist = ManiMath.rnd(0, mySize / 2);
       float sz = mySize * ManiMath.rnd(.25f,.5f);
-      Asteroid a = game.getAsteroidBuilder().buildNew(game, newPos, spd, sz, myRemoveController);
-      game.getObjMan().addObjDelayed(a);
-      sclSum += a.mySize * a.mySize;
+      game.getAsteroidBuilder().addFragment(game, myPos, mySpd, spdAngle, dist, spdLen, sz, myRemoveController);
+      sclSum += sz * sz;
     }
     float thrMoney = mySize * 40f * ManiMath.rnd(.3f, 1);
     List<MoneyItem> moneyItems = game.getItemMan().moneyToItems(thrMoney);
@@ -198,13 +193,13 @@ private void maybeSplit(ManiGame game) {
 
   private void throwLoot(ManiGame game, ManiItem item) {
     float spdAngle = ManiMath.rnd(180);
-    Vector2 lootSpd = new Vector2();
-    ManiMath.fromAl(lootSpd, spdAngle, ManiMath.rnd(0, Loot.MAX_SPD));
+    Vector2 lootSpd = ManiMath.fromAl(spdAngle, ManiMath.rnd(0, Loot.MAX_SPD));
     lootSpd.add(mySpd);
-    Vector2 pos = new Vector2();
-    ManiMath.fromAl(pos, spdAngle, ManiMath.rnd(0, mySize / 2));
+    Vector2 pos = ManiMath.fromAl(spdAngle, ManiMath.rnd(0, mySize / 2));
     pos.add(myPos);
     Loot l = game.getLootBuilder().build(game, pos, item, lootSpd, Loot.MAX_LIFE, ManiMath.rnd(Loot.MAX_ROT_SPD), null);
+    ManiMath.free(lootSpd);
+    ManiMath.free(pos);
     game.getObjMan().addObjDelayed(l);
   }
 
@@ -33,19 +33,70 @@
 import com.pathtomani.managers.dra.DraLevel;
 import com.pathtomani.managers.dra.RectSprite;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 
 public class AsteroidBuilder {
   private static final float MAX_A_ROT_SPD = .5f;
   private static final float MAX_BALL_SZ = .2f;
+  private static final float MIN_FRAGMENT_SZ = .1f;
+  private static final int MAX_FRAGMENTS_PER_TICK = 4;
   public static final float DENSITY = 10f;
 
   private final PathLoader myPathLoader;
   private final ArrayList<TextureAtlas.AtlasRegion> myTexs;
+  private final ArrayDeque<Fragment> myFragments;
+  private final ArrayList<Fragment> myFreeFragments;
 
   public AsteroidBuilder(TextureManager textureManager) {
     myPathLoader = new PathLoader("asteroids");
     myTexs = textureManager.getPack("asteroids/sys", null);
+    myFragments = new ArrayDeque<Fragment>();
+    myFreeFragments = new ArrayList<Fragment>();
+  }
+
+  /**
+   * Spawns some of the queued fragments. Spreads the body creation of a chain of splitting asteroids over several ticks.
+   */
+  public void update(ManiGame game) {
+    for (int i = 0; i < MAX_FRAGMENTS_PER_TICK && !myFragments.isEmpty(); i++) {
+      Fragment f = myFragments.poll();
+      // the fragment kept flying while it waited
+      float waited = game.getTime() - f.time;
+      f.pos.add(f.spd.x * waited, f.spd.y * waited);
+      Asteroid a = buildNew(game, f.pos, f.spd, f.sz, f.removeController);
+      game.getObjMan().addObjDelayed(a);
+      f.removeController = null;
+      myFreeFragments.add(f);
+    }
+  }
+
+  /**
+   * Queues a fragment of a destroyed asteroid. Fragments that are too small only leave dust.
+   * The ones out of sight are queued too, asteroids destroyed off screen still split into pieces that can be mined.
+   * @param angle the direction of the fragment from the destroyed asteroid
+   */
+  public void addFragment(ManiGame game, Vector2 fromPos, Vector2 fromSpd, float angle, float dist, float spdLen,
+    float sz, RemoveController removeController)
+  {
+    Fragment f = myFreeFragments.isEmpty() ? new Fragment() : myFreeFragments.remove(myFreeFragments.size() - 1);
+    ManiMath.fromAl(f.pos, angle, dist);
+    f.pos.add(fromPos);
+    ManiMath.fromAl(f.spd, angle, spdLen);
+    f.spd.add(fromSpd);
+    if (sz < MIN_FRAGMENT_SZ) {
+      game.getSpecialEffects().asteroidDust(game, f.pos, f.spd, sz);
+      myFreeFragments.add(f);
+      return;
+    }
+    f.sz = sz;
+    f.removeController = removeController;
+    f.time = game.getTime();
+    myFragments.add(f);
+  }
+
+  public void dispose() {
+    myPathLoader.dispose();
   }
 
   // doesn't consume pos
@@ -104,4 +155,12 @@ public static Body buildBall(ManiGame game, Vector2 pos, float angle, float rad,
     fd.shape.dispose();
     return body;
   }
+
+  private static class Fragment {
+    final Vector2 pos = new Vector2();
+    final Vector2 spd = new Vector2();
+    float sz;
+    float time;
+    RemoveController removeController;
+  }
 }
@@ -18,10 +18,10 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.gfx.TextureManager;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.game.DmgType;
 import com.pathtomani.entities.item.*;
@@ -115,9 +115,8 @@ private String makeDesc() {
   }
 
   public static void load(TextureManager textureManager, ItemManager itemManager, SoundManager soundManager, ManiItemTypes types) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("guns.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ContentCache.parseJson(configFile);
     for (JsonValue sh : parsed) {
       float minAngleVar = sh.getFloat("minAngleVar", 0);
       float maxAngleVar = sh.getFloat("maxAngleVar");
@@ -18,10 +18,10 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.managers.sound.SoundManager;
 import com.pathtomani.gfx.TextureManager;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.game.DmgType;
 import com.pathtomani.game.ManiGame;
@@ -125,9 +125,8 @@ private Config(String displayName, int price, float perc, ManiSound bulletHitSou
 
     public static void loadConfigs(ItemManager itemManager, SoundManager soundManager, TextureManager textureManager, ManiItemTypes types)
     {
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("armors.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ContentCache.parseJson(configFile);
       for (JsonValue sh : parsed) {
         String displayName = sh.getString("displayName");
         int price = sh.getInt("price");
@@ -18,9 +18,9 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.gfx.TextureManager;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.entities.projectile.ProjectileConfig;
 
@@ -56,9 +56,8 @@ public ClipConfig(ProjectileConfig projConfig, boolean infinite, int price, Stri
   }
 
   public static void load(ItemManager itemManager, TextureManager textureManager, ManiItemTypes types) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("clips.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ContentCache.parseJson(configFile);
     for (JsonValue sh : parsed) {
       String projectileName = sh.getString("projectile");
       ProjectileConfig projConfig = itemManager.projConfigs.find(projectileName);
@@ -18,10 +18,10 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.managers.sound.SoundManager;
 import com.pathtomani.gfx.TextureManager;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.gfx.GameColors;
 import com.pathtomani.game.ManiGame;
@@ -154,9 +154,8 @@ public Configs(HashMap<String, Config> configs) {
 
     public static Configs load(SoundManager soundManager, TextureManager textureManager, EffectTypes effectTypes, GameColors cols) {
       HashMap<String, Config> configs = new HashMap<String, Config>();
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("engines.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ContentCache.parseJson(configFile);
       for (JsonValue sh : parsed) {
         Config config = Config.load(soundManager, configFile, sh, effectTypes, textureManager, cols);
         configs.put(sh.name(), config);
@@ -47,6 +47,8 @@ public class Loot implements ManiObject {
   private final float myMass;
 
   private ManiShip myOwner;
+  private ManiShip myPuller;
+  private float myPullerDist;
   private float myOwnerAwait;
   private int myLife;
   private float myAngle;
@@ -72,25 +74,26 @@ public void update(ManiGame game) {
       myOwnerAwait -= game.getTimeStep();
       if (myOwnerAwait <= 0) myOwner = null;
     }
-    ManiShip puller = null;
-    float minDist = Float.MAX_VALUE;
-    List<ManiObject> objs = game.getObjMan().getObjs();
-    for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
-      ManiObject o = objs.get(i);
-      if (!(o instanceof ManiShip)) continue;
-      ManiShip ship = (ManiShip) o;
-      if (!ship.getPilot().collectsItems()) continue;
-      if (!(myItem instanceof MoneyItem) && !ship.getItemContainer().canAdd(myItem)) continue;
-      float dst = ship.getPosition().dst(myPos);
-      if (minDist < dst) continue;
-      puller = ship;
-      minDist = dst;
-    }
-    if (puller != null) {
-      maybePulled(puller, puller.getPosition(), puller.getPullDist());
+    // the puller is chosen by the LootMagnet
+    if (myPuller != null) {
+      maybePulled(myPuller, myPuller.getPosition(), myPuller.getPullDist());
     }
   }
 
+  void resetPuller() {
+    myPuller = null;
+    myPullerDist = Float.MAX_VALUE;
+  }
+
+  void setPuller(ManiShip ship, float dist) {
+    myPuller = ship;
+    myPullerDist = dist;
+  }
+
+  float getPullerDist() {
+    return myPullerDist;
+  }
+
   private void setParamsFromBody() {
     myPos.set(myBody.getPosition());
     myAngle = myBody.getAngle() * ManiMath.radDeg;
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.entities.item;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.pathtomani.entities.ship.ManiShip;
+import com.pathtomani.game.ManiObject;
+import com.pathtomani.game.ObjectGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decides once per tick which ship pulls each loot: the nearest ship that collects items and has room for it.
+ * Instead of every loot scanning all the objects, each collecting ship looks up the loot around it in the object grid.
+ * Whether a ship has room for an item is checked once per tick for each kind of item.
+ */
+public class LootMagnet {
+  private final ArrayList<ManiShip> myShips;
+  private final ArrayList<ManiObject> myNear;
+  private final ArrayList<ArrayList<ManiItem>> myCheckedItems;
+  private final ArrayList<BooleanArray> myCanAdd;
+
+  public LootMagnet() {
+    myShips = new ArrayList<ManiShip>();
+    myNear = new ArrayList<ManiObject>();
+    myCheckedItems = new ArrayList<ArrayList<ManiItem>>();
+    myCanAdd = new ArrayList<BooleanArray>();
+  }
+
+  /**
+   * Must be called after the grid is rebuilt and before the loot is updated
+   */
+  public void update(List<ManiObject> objs, ObjectGrid grid) {
+    myShips.clear();
+    float maxPullDist = 0;
+    for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
+      ManiObject o = objs.get(i);
+      if (o instanceof Loot) {
+        ((Loot) o).resetPuller();
+        continue;
+      }
+      if (!(o instanceof ManiShip)) continue;
+      ManiShip ship = (ManiShip) o;
+      if (!ship.getPilot().collectsItems()) continue;
+      myShips.add(ship);
+      maxPullDist = Math.max(maxPullDist, ship.getPullDist());
+    }
+    // cargo changes between ticks
+    for (int i = 0, sz = myCheckedItems.size(); i < sz; i++) {
+      myCheckedItems.get(i).clear();
+      myCanAdd.get(i).clear();
+    }
+
+    for (int shipIdx = 0, shipsSize = myShips.size(); shipIdx < shipsSize; shipIdx++) {
+      ManiShip ship = myShips.get(shipIdx);
+      Vector2 shipPos = ship.getPosition();
+      // the loot takes the nearest ship even if it's out of that ship's range, like with a full scan,
+      // so all the ships look as far as the furthest reaching one
+      grid.query(shipPos, maxPullDist, myNear);
+      for (int i = 0, nearSize = myNear.size(); i < nearSize; i++) {
+        ManiObject o = myNear.get(i);
+        if (!(o instanceof Loot)) continue;
+        Loot loot = (Loot) o;
+        float dst = shipPos.dst(loot.getPosition());
+        if (loot.getPullerDist() < dst) continue;
+        ManiItem item = loot.getItem();
+        if (item == null) continue;
+        if (!(item instanceof MoneyItem) && !canAdd(shipIdx, ship, item)) continue;
+        loot.setPuller(ship, dst);
+      }
+    }
+  }
+
+  private boolean canAdd(int shipIdx, ManiShip ship, ManiItem item) {
+    while (myCheckedItems.size() <= shipIdx) {
+      myCheckedItems.add(new ArrayList<ManiItem>());
+      myCanAdd.add(new BooleanArray());
+    }
+    ArrayList<ManiItem> checked = myCheckedItems.get(shipIdx);
+    BooleanArray canAdd = myCanAdd.get(shipIdx);
+    for (int i = 0, sz = checked.size(); i < sz; i++) {
+      if (checked.get(i).isSame(item)) return canAdd.get(i);
+    }
+    boolean res = ship.getItemContainer().canAdd(item);
+    checked.add(item);
+    canAdd.add(res);
+    return res;
+  }
+}
@@ -18,9 +18,9 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.managers.sound.SoundManager;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.gfx.GameColors;
 import com.pathtomani.managers.sound.ManiSound;
@@ -38,9 +38,8 @@ public class ManiItemTypes {
   public final ManiItemType fixedGun;
 
   public ManiItemTypes(SoundManager soundManager, GameColors cols) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("types.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ContentCache.parseJson(configFile);
     clip = load("clip", soundManager, configFile, parsed, cols);
     shield = load("shield", soundManager, configFile, parsed, cols);
     armor = load("armor", soundManager, configFile, parsed, cols);
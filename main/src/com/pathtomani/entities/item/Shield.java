@@ -19,9 +19,9 @@
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.game.DmgType;
 import com.pathtomani.game.ManiGame;
@@ -171,9 +171,8 @@ private String makeDesc() {
     }
 
     public static void loadConfigs(ItemManager itemManager, SoundManager soundManager, TextureManager textureManager, ManiItemTypes types) {
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("shields.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ContentCache.parseJson(configFile);
       for (JsonValue sh : parsed) {
         int maxLife = sh.getInt("maxLife");
         String displayName = sh.getString("displayName");
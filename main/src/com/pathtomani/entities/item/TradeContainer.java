@@ -34,8 +34,15 @@ public TradeContainer(TradeConfig config) {
   }
 
   public void update(ManiGame game) {
+    update(game.getTimeStep());
+  }
+
+  /**
+   * @param elapsed time passed since the previous update, can span many ticks
+   */
+  public void update(float elapsed) {
     if (0 < myAwait) {
-      myAwait -= game.getTimeStep();
+      myAwait -= elapsed;
       return;
     }
 
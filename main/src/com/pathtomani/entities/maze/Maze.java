@@ -29,6 +29,7 @@ public class Maze {
   private final float myRadius;
   private final float myDps;
   private boolean myObjsCreated;
+  private MazeFlowField myFlowField;
 
   public Maze(MazeConfig config, Vector2 pos, float radius) {
     myConfig = config;
@@ -64,4 +65,15 @@ public float getRadius() {
   public float getDps() {
     return myDps;
   }
+
+  /**
+   * @return the navigation grid of this maze, or null if the maze objects were not created yet
+   */
+  public MazeFlowField getFlowField() {
+    return myFlowField;
+  }
+
+  public void setFlowField(MazeFlowField flowField) {
+    myFlowField = flowField;
+  }
 }
@@ -45,6 +45,7 @@ public void build(ManiGame game, Maze maze) {
     myMazeAngle = ManiMath.rnd(180);
 
     MazeLayout layout = buildMaze(game, maze);
+    maze.setFlowField(new MazeFlowField(layout, mySz, myMazePos, myMazeAngle));
     buildEnemies(game, maze, layout);
   }
 
@@ -17,10 +17,10 @@
 package com.pathtomani.entities.maze;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.managers.files.HullConfigManager;
 import com.pathtomani.gfx.TextureManager;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.entities.item.ItemManager;
 
@@ -33,9 +33,8 @@ public class MazeConfigs {
   public MazeConfigs(TextureManager textureManager, HullConfigManager hullConfigs, ItemManager itemManager) {
     configs = new ArrayList<MazeConfig>();
 
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("mazes.json");
-    JsonValue mazesNode = r.parse(configFile);
+    JsonValue mazesNode = ContentCache.parseJson(configFile);
     for (JsonValue mazeNode : mazesNode) {
       MazeConfig c = MazeConfig.load(textureManager, hullConfigs, mazeNode, configFile, itemManager);
       configs.add(c);
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.entities.maze;
+
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.ManiMath;
+
+import java.util.HashMap;
+
+/**
+ * Navigation grid of a single maze, built once from its {@link MazeLayout}.
+ * For every destination cell a flow field (the direction of the next cell on the shortest path) is computed
+ * on first request and cached, so sampling it for a ship is O(1).
+ */
+public class MazeFlowField {
+  public static final int MAX_CACHED_FIELDS = 64;
+  private static final byte DIR_NONE = -1;
+  private static final byte DIR_LEFT = 0;
+  private static final byte DIR_UP = 1;
+  private static final byte DIR_RIGHT = 2;
+  private static final byte DIR_DOWN = 3;
+
+  private final int mySz;
+  private final Vector2 myPos;
+  private final float myAngle;
+  private final boolean[][] myRightWalls;
+  private final boolean[][] myDownWalls;
+  private final HashMap<Integer, byte[]> myFields;
+  private final int[] myQueue;
+  private final Vector2 myTmp;
+
+  public MazeFlowField(MazeLayout layout, int sz, Vector2 pos, float angle) {
+    mySz = sz;
+    myPos = pos;
+    myAngle = angle;
+    myRightWalls = new boolean[mySz][mySz];
+    myDownWalls = new boolean[mySz][mySz];
+    myFields = new HashMap<Integer, byte[]>();
+    myQueue = new int[mySz * mySz];
+    myTmp = new Vector2();
+    setWalls(layout);
+  }
+
+  /**
+   * Marks only the walls that {@link MazeBuilder} actually turns into tiles, so that the grid matches the physics
+   */
+  private void setWalls(MazeLayout layout) {
+    boolean[][] inners = layout.inners;
+    for (int col = 0; col < mySz; col++) {
+      for (int row = 0; row < mySz; row++) {
+        boolean ulInner = col > 0 && row > 0 && inners[col][row];
+        boolean rInner = row > 0 && col < mySz - 1 && inners[col + 1][row];
+        boolean dInner = col > 0 && row < mySz - 1 && inners[col][row + 1];
+        myRightWalls[col][row] = col < mySz - 1 && row > 0 && (ulInner || rInner) && layout.right[col][row];
+        myDownWalls[col][row] = row < mySz - 1 && col > 0 && (ulInner || dInner) && layout.down[col][row];
+      }
+    }
+  }
+
+  /**
+   * @return the angle towards the center of the next cell on the way to dest,
+   * or NaN if there's no need for maze navigation (either point is outside the maze grid, they share a cell, or dest is unreachable)
+   */
+  public float getToDestAngle(Vector2 from, Vector2 dest) {
+    int destCell = toCell(dest);
+    if (destCell < 0) return Float.NaN;
+    int fromCell = toCell(from);
+    if (fromCell < 0 || fromCell == destCell) return Float.NaN;
+    byte dir = getField(destCell)[fromCell];
+    if (dir == DIR_NONE) return Float.NaN;
+    int col = fromCell / mySz;
+    int row = fromCell % mySz;
+    if (dir == DIR_LEFT) col--;
+    else if (dir == DIR_UP) row--;
+    else if (dir == DIR_RIGHT) col++;
+    else row++;
+    cellPos(myTmp, col, row);
+    return ManiMath.angle(from, myTmp);
+  }
+
+  private int toCell(Vector2 pos) {
+    ManiMath.toRel(pos, myTmp, myAngle, myPos);
+    int col = (int) Math.floor(myTmp.x / MazeBuilder.TILE_SZ + .5f) + mySz / 2;
+    int row = (int) Math.floor(myTmp.y / MazeBuilder.TILE_SZ + .5f) + mySz / 2;
+    if (col < 0 || mySz <= col || row < 0 || mySz <= row) return -1;
+    return col * mySz + row;
+  }
+
+  private void cellPos(Vector2 res, int col, int row) {
+    res.set((col - mySz / 2) * MazeBuilder.TILE_SZ, (row - mySz / 2) * MazeBuilder.TILE_SZ);
+    ManiMath.rotate(res, myAngle);
+    res.add(myPos);
+  }
+
+  private byte[] getField(int destCell) {
+    byte[] field = myFields.get(destCell);
+    if (field != null) return field;
+    if (myFields.size() >= MAX_CACHED_FIELDS) myFields.clear();
+    field = buildField(destCell);
+    myFields.put(destCell, field);
+    return field;
+  }
+
+  /**
+   * Breadth-first search from the destination cell. Each reached cell stores the direction to the cell it was reached from
+   */
+  private byte[] buildField(int destCell) {
+    byte[] field = new byte[mySz * mySz];
+    for (int i = 0; i < field.length; i++) {
+      field[i] = DIR_NONE;
+    }
+    boolean[] visited = new boolean[mySz * mySz];
+    visited[destCell] = true;
+    int head = 0;
+    int tail = 0;
+    myQueue[tail++] = destCell;
+    while (head < tail) {
+      int cell = myQueue[head++];
+      int col = cell / mySz;
+      int row = cell % mySz;
+      if (col > 0 && !myRightWalls[col - 1][row]) tail = visit(field, visited, tail, cell - mySz, DIR_RIGHT);
+      if (row > 0 && !myDownWalls[col][row - 1]) tail = visit(field, visited, tail, cell - 1, DIR_DOWN);
+      if (col < mySz - 1 && !myRightWalls[col][row]) tail = visit(field, visited, tail, cell + mySz, DIR_LEFT);
+      if (row < mySz - 1 && !myDownWalls[col][row]) tail = visit(field, visited, tail, cell + 1, DIR_UP);
+    }
+    return field;
+  }
+
+  private int visit(byte[] field, boolean[] visited, int tail, int cell, byte dirBack) {
+    if (visited[cell]) return tail;
+    visited[cell] = true;
+    field[cell] = dirBack;
+    myQueue[tail] = cell;
+    return tail + 1;
+  }
+}
@@ -30,6 +30,8 @@ public class MazeTile {
   public final List<List<Vector2>> points;
   public final boolean metal;
   public final TextureAtlas.AtlasRegion bgTex;
+  private final List<Vector2[]> myLoops;
+  private final List<Vector2[]> myFlippedLoops;
 
   public MazeTile(TextureAtlas.AtlasRegion tex, List<List<Vector2>> points, boolean metal,
     TextureAtlas.AtlasRegion bgTex)
@@ -38,6 +40,32 @@ public MazeTile(TextureAtlas.AtlasRegion tex, List<List<Vector2>> points, boolea
     this.points = points;
     this.metal = metal;
     this.bgTex = bgTex;
+    myLoops = buildLoops(points, false);
+    myFlippedLoops = buildLoops(points, true);
+  }
+
+  /**
+   * @return the points of each loop in body coordinates
+   */
+  public List<Vector2[]> getLoops(boolean flipped) {
+    return flipped ? myFlippedLoops : myLoops;
+  }
+
+  private static List<Vector2[]> buildLoops(List<List<Vector2>> points, boolean flipped) {
+    ArrayList<Vector2[]> res = new ArrayList<Vector2[]>();
+    for (List<Vector2> pts : points) {
+      int sz = pts.size();
+      Vector2[] loop = new Vector2[sz];
+      for (int i = 0; i < sz; i++) {
+        Vector2 v = new Vector2(pts.get(flipped ? sz - i - 1 : i));
+        v.add(-.5f, -.5f);
+        if (flipped) v.x *= -1;
+        v.scl(MazeBuilder.TILE_SZ);
+        loop[i] = v;
+      }
+      res.add(loop);
+    }
+    return res;
   }
 
   public static MazeTile load(TextureAtlas.AtlasRegion tex, PathLoader.Model paths, boolean wall, String pathEntryName,
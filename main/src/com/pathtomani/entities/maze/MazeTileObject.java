@@ -200,20 +200,10 @@ private Body buildBody(ManiGame game, float angle, Vector2 pos, MazeTile tile, b
       def.angularDamping = 0;
       Body body = game.getObjMan().getWorld().createBody(def);
 
-      for (List<Vector2> pts : tile.points) {
+      List<Vector2[]> loops = tile.getLoops(flipped);
+      for (int i = 0, sz = loops.size(); i < sz; i++) {
         ChainShape shape = new ChainShape();
-        List<Vector2> points  = new ArrayList<Vector2>();
-        int sz = pts.size();
-        for (int i = 0; i < sz; i++) {
-          Vector2 curr = pts.get(flipped ? sz - i - 1 : i);
-          Vector2 v = new Vector2(curr);
-          v.add(-.5f, -.5f);
-          if (flipped) v.x *= -1;
-          v.scl(MazeBuilder.TILE_SZ);
-          points.add(v);
-        }
-        Vector2[] v = points.toArray(new Vector2[]{});
-        shape.createLoop(v);
+        shape.createLoop(loops.get(i));
         Fixture f = body.createFixture(shape, 0);
         f.setFriction(Const.FRICTION);
         shape.dispose();
@@ -17,9 +17,9 @@
 package com.pathtomani.entities.planet;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.managers.files.HullConfigManager;
 import com.pathtomani.gfx.GameColors;
@@ -43,9 +43,8 @@ public PlanetConfigs(TextureManager textureManager, HullConfigManager hullConfig
     myMedium = new ArrayList<PlanetConfig>();
     myHard = new ArrayList<PlanetConfig>();
 
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("planets.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ContentCache.parseJson(configFile);
     for (JsonValue sh : parsed) {
       PlanetConfig c = PlanetConfig.load(textureManager, hullConfigs, configFile, sh, cols, itemManager);
       myAllConfigs.put(sh.name, c);
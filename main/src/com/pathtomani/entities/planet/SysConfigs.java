@@ -17,11 +17,11 @@
 package com.pathtomani.entities.planet;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.entities.item.TradeConfig;
 import com.pathtomani.gfx.TextureManager;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.managers.files.HullConfigManager;
 import com.pathtomani.game.ShipConfig;
@@ -51,9 +51,8 @@ public SysConfigs(TextureManager textureManager, HullConfigManager hullConfigs,
   private void load(TextureManager textureManager, HullConfigManager hullConfigs, boolean belts, String configName,
     ItemManager itemManager)
   {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child(configName);
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ContentCache.parseJson(configFile);
     for (JsonValue sh : parsed) {
       ArrayList<ShipConfig> tempEnemies = ShipConfig.loadList(sh.get("temporaryEnemies"), hullConfigs, itemManager);
       ArrayList<ShipConfig> innerTempEnemies = ShipConfig.loadList(sh.get("innerTemporaryEnemies"), hullConfigs, itemManager);
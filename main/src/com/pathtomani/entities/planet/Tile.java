@@ -18,7 +18,9 @@
 
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class Tile {
@@ -26,11 +28,31 @@ public class Tile {
   public final List<Vector2> points;
   public final SurfaceDirection to;
   public final SurfaceDirection from;
+  private final FloatArray myLoopSizes;
+  private final ArrayList<Vector2[]> myLoops;
 
   public Tile(TextureAtlas.AtlasRegion tex, List<Vector2> points, SurfaceDirection to, SurfaceDirection from) {
     this.tex = tex;
     this.points = points;
     this.to = to;
     this.from = from;
+    myLoopSizes = new FloatArray();
+    myLoops = new ArrayList<Vector2[]>();
+  }
+
+  /**
+   * @return the points scaled by sz, built once for each size the tile is used with
+   */
+  public Vector2[] getLoop(float sz) {
+    for (int i = 0, count = myLoopSizes.size; i < count; i++) {
+      if (myLoopSizes.get(i) == sz) return myLoops.get(i);
+    }
+    Vector2[] loop = new Vector2[points.size()];
+    for (int i = 0; i < loop.length; i++) {
+      loop[i] = new Vector2(points.get(i)).scl(sz);
+    }
+    myLoopSizes.add(sz);
+    myLoops.add(loop);
+    return loop;
   }
 }
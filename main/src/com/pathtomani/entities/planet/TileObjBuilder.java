@@ -28,9 +28,6 @@
 import com.pathtomani.managers.dra.DraLevel;
 import com.pathtomani.managers.dra.RectSprite;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class TileObjBuilder {
   public TileObject build(ManiGame game, float sz, float toPlanetRelAngle, float dist, Tile tile, Planet planet) {
     float spriteSz = sz * 2;
@@ -54,14 +51,7 @@ private Body buildBody(ManiGame game, float toPlanetRelAngle, float dist, Tile t
     def.angularDamping = 0;
     Body body = game.getObjMan().getWorld().createBody(def);
     ChainShape shape = new ChainShape();
-    List<Vector2> points  = new ArrayList<Vector2>();
-    for (Vector2 curr : tile.points) {
-      Vector2 v = new Vector2(curr);
-      v.scl(spriteSz);
-      points.add(v);
-    }
-    Vector2[] v = points.toArray(new Vector2[]{});
-    shape.createLoop(v);
+    shape.createLoop(tile.getLoop(spriteSz));
     Fixture f = body.createFixture(shape, 0);
     f.setFriction(Const.FRICTION);
     shape.dispose();
@@ -18,6 +18,7 @@
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.entities.asteroid.AsteroidBuilder;
@@ -39,13 +40,13 @@ public BallProjectileBody(ManiGame game, Vector2 pos, float angle, Projectile pr
     myBody = AsteroidBuilder.buildBall(game, pos, angle, config.physSize / 2, density, config.massless);
     if (config.zeroAbsSpd) myBody.setAngularVelocity(15f * ManiMath.degRad);
 
-    mySpd = new Vector2();
+    mySpd = AllocTracker.newVec();
     ManiMath.fromAl(mySpd, angle, spdLen);
     mySpd.add(gunSpd);
     myBody.setLinearVelocity(mySpd);
     myBody.setUserData(projectile);
 
-    myPos = new Vector2();
+    myPos = AllocTracker.newVec();
     myAcc = config.acc;
     myMass = myBody.getMass();
     setParamsFromBody();
@@ -19,6 +19,7 @@
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.ManiObject;
@@ -34,8 +35,8 @@ public class PointProjectileBody implements ProjectileBody {
   public PointProjectileBody(float angle, Vector2 muzzlePos, Vector2 gunSpd, float spdLen,
                              Projectile projectile, ManiGame game, float acc)
   {
-    myPos = new Vector2(muzzlePos);
-    mySpd = new Vector2();
+    myPos = AllocTracker.newVec(muzzlePos);
+    mySpd = AllocTracker.newVec();
     ManiMath.fromAl(mySpd, angle, spdLen);
     mySpd.add(gunSpd);
     myRayBack = new MyRayBack(projectile, game);
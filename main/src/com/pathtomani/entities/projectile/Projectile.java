@@ -26,6 +26,7 @@
 import com.pathtomani.managers.dra.Dra;
 import com.pathtomani.gfx.particle.LightSrc;
 import com.pathtomani.gfx.ManiColor;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.managers.dra.DraLevel;
 import com.pathtomani.managers.dra.RectSprite;
@@ -42,6 +43,7 @@
   Projectile implements ManiObject {
 
   private static final float MIN_ANGLE_TO_GUIDE = 2f;
+  private static final int ALLOC_COUNTER = AllocTracker.register("Projectile");
   private final ArrayList<Dra> myDras;
   private final ProjectileBody myBody;
   private final Faction myFaction;
@@ -57,14 +59,15 @@
   public Projectile(ManiGame game, float angle, Vector2 muzzlePos, Vector2 gunSpd, Faction faction,
                     ProjectileConfig config, boolean varySpd)
   {
-    myDras = new ArrayList<Dra>();
+    AllocTracker.count(ALLOC_COUNTER);
+    myDras = AllocTracker.newList();
     myConfig = config;
 
     Dra dra;
     if (myConfig.stretch) {
       dra = new MyDra(this, myConfig.tex, myConfig.texSz);
     } else {
-      dra = new RectSprite(myConfig.tex, myConfig.texSz, myConfig.origin.x, myConfig.origin.y, new Vector2(), DraLevel.PROJECTILES, 0, 0, ManiColor.W, false);
+      dra = new RectSprite(myConfig.tex, myConfig.texSz, myConfig.origin.x, myConfig.origin.y, AllocTracker.newVec(), DraLevel.PROJECTILES, 0, 0, ManiColor.W, false);
     }
     myDras.add(dra);
     float spdLen = myConfig.spdLen;
@@ -80,7 +83,7 @@ public Projectile(ManiGame game, float angle, Vector2 muzzlePos, Vector2 gunSpd,
     if (myConfig.lightSz > 0) {
       Color col = ManiColor.W;
       if (myBodyEffect != null) col = myConfig.bodyEffect.tint;
-      myLightSrc = new LightSrc(game, myConfig.lightSz, true, 1f, new Vector2(), col);
+      myLightSrc = new LightSrc(game, myConfig.lightSz, true, 1f, AllocTracker.newVec(), col);
       myLightSrc.collectDras(myDras);
     } else {
       myLightSrc = null;
@@ -89,7 +92,7 @@ public Projectile(ManiGame game, float angle, Vector2 muzzlePos, Vector2 gunSpd,
 
   private ParticleSrc buildEffect(ManiGame game, EffectConfig ec, DraLevel draLevel, Vector2 pos, boolean inheritsSpd) {
     if (ec == null) return null;
-    ParticleSrc res = new ParticleSrc(ec, -1, draLevel, new Vector2(), inheritsSpd, game, pos, myBody.getSpd(), 0);
+    ParticleSrc res = new ParticleSrc(ec, -1, draLevel, AllocTracker.newVec(), inheritsSpd, game, pos, myBody.getSpd(), 0);
     if (res.isContinuous()) {
       res.setWorking(true);
       myDras.add(res);
@@ -258,11 +261,14 @@ private static class MyDra implements Dra {
     private final Projectile myProjectile;
     private final TextureAtlas.AtlasRegion myTex;
     private final float myWidth;
+    private final Vector2 myPos;
+    private float myAngle;
 
     public MyDra(Projectile projectile, TextureAtlas.AtlasRegion tex, float width) {
       myProjectile = projectile;
       myTex = tex;
       myWidth = width;
+      myPos = AllocTracker.newVec();
     }
 
     @Override
@@ -280,17 +286,24 @@ public DraLevel getLevel() {
       return DraLevel.PROJECTILES;
     }
 
+    @Override
+    public boolean isAdditive() {
+      return false;
+    }
+
     @Override
     public void update(ManiGame game, ManiObject o) {
     }
 
     @Override
-    public void prepare(ManiObject o) {
+    public void prepare(ManiObject o, Vector2 basePos, float baseAngle) {
+      myPos.set(basePos);
+      myAngle = baseAngle;
     }
 
     @Override
     public Vector2 getPos() {
-      return myProjectile.getPosition();
+      return myPos;
     }
 
     @Override
@@ -308,10 +321,9 @@ public void draw(GameDrawer drawer, ManiGame game) {
       float h = myWidth;
       float minH = game.getCam().getRealLineWidth() * 3;
       if (h < minH) h = minH;
-      Vector2 pos = myProjectile.getPosition();
       float w = myProjectile.getSpd().len() * game.getTimeStep();
       if (w < 4 * h) w = 4 * h;
-      drawer.draw(myTex, w, h, w, h / 2, pos.x, pos.y, ManiMath.angle(myProjectile.getSpd()), ManiColor.LG);
+      drawer.draw(myTex, w, h, w, h / 2, myPos.x, myPos.y, myAngle, ManiColor.LG);
     }
 
     @Override
@@ -19,10 +19,10 @@
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.gfx.TextureManager;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.game.DmgType;
 import com.pathtomani.gfx.GameColors;
@@ -40,9 +40,8 @@ public class ProjectileConfigs {
 
   public ProjectileConfigs(TextureManager textureManager, SoundManager soundManager, EffectTypes effectTypes, GameColors cols) {
     myConfigs = new HashMap<String, ProjectileConfig>();
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("projectiles.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ContentCache.parseJson(configFile);
     for (JsonValue sh : parsed) {
       String texName = "smallGameObjs/projectiles/" + sh.getString("texName");
       TextureAtlas.AtlasRegion tex = textureManager.getTex(texName, configFile);
@@ -18,13 +18,13 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.entities.item.ManiItem;
 import com.pathtomani.entities.item.ManiItemType;
 import com.pathtomani.entities.item.ManiItemTypes;
 import com.pathtomani.gfx.TextureManager;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.entities.item.ItemManager;
 
@@ -105,9 +105,8 @@ public Config(TextureAtlas.AtlasRegion icon, float price, String displayName, St
     }
 
     public static void load(ItemManager itemManager, TextureManager textureManager, ManiItemTypes types) {
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("abilityCharges.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ContentCache.parseJson(configFile);
       for (JsonValue ammoNode : parsed) {
         String iconName = ammoNode.getString("iconName");
         TextureAtlas.AtlasRegion icon = textureManager.getTex(TextureManager.ICONS_DIR + iconName, configFile);
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.entities.ship;
+
+import com.pathtomani.entities.gun.GunItem;
+import com.pathtomani.entities.item.Armor;
+import com.pathtomani.entities.item.Shield;
+import com.pathtomani.entities.ship.hulls.HullConfig;
+import com.pathtomani.game.HardnessCalc;
+
+/**
+ * The damage per second and damage capacity of a ship, recalculated only when its equipment changes.
+ * Equipment can change in several places (equipping, a destroyed shield, a gun removed from the cargo),
+ * so instead of being invalidated from each of them, the stats remember which items they were calculated for.
+ */
+public class CombatStats {
+  private Armor myArmor;
+  private Shield myShield;
+  private GunItem myGun1;
+  private GunItem myGun2;
+  private boolean myValid;
+  private float myDps;
+  private float myDmgCap;
+
+  void update(HullConfig hull, Armor armor, Shield shield, GunItem gun1, GunItem gun2) {
+    if (myValid && armor == myArmor && shield == myShield && gun1 == myGun1 && gun2 == myGun2) return;
+    myValid = true;
+    myArmor = armor;
+    myShield = shield;
+    myGun1 = gun1;
+    myGun2 = gun2;
+    myDps = HardnessCalc.getGunDps(gun1) + HardnessCalc.getGunDps(gun2);
+    myDmgCap = HardnessCalc.getDmgCap(hull, armor, shield);
+  }
+
+  public float getDps() {
+    return myDps;
+  }
+
+  public float getDmgCap() {
+    return myDmgCap;
+  }
+}
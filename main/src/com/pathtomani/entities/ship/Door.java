@@ -20,14 +20,12 @@
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.joints.PrismaticJoint;
-import com.pathtomani.game.FactionManager;
+import com.pathtomani.game.AreaQuery;
 import com.pathtomani.managers.dra.Dra;
 import com.pathtomani.common.ManiMath;
-import com.pathtomani.game.Faction;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.ManiObject;
 import com.pathtomani.managers.dra.RectSprite;
-import com.pathtomani.managers.input.Pilot;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +33,8 @@
 public class Door {
   public static final float SPD_LEN = .4f;
   public static final float SENSOR_DIST = 3f;
+  private static final AreaQuery QUERY = new AreaQuery();
+  private static final List<ManiObject> NEAR_OBJS = new ArrayList<ManiObject>();
   public static final float DOOR_LEN = 1.1f;
   public static final float MAX_OPEN_AWAIT = DOOR_LEN / SPD_LEN;
   private final PrismaticJoint myJoint;
@@ -67,18 +67,12 @@ public void update(ManiGame game, ManiShip ship) {
   }
 
   private boolean shouldOpen(ManiGame game, ManiShip ship, Vector2 doorPos) {
-    Faction faction = ship.getPilot().getFaction();
-    FactionManager factionManager = game.getFactionMan();
-    List<ManiObject> objs = game.getObjMan().getObjs();
-    for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
-      ManiObject o = objs.get(i);
-      if (o == ship) continue;
-      if (!(o instanceof ManiShip)) continue;
-      ManiShip ship2 = (ManiShip) o;
-      Pilot pilot2 = ship2.getPilot();
-      if (!pilot2.isUp()) continue;
-      if (factionManager.areEnemies(pilot2.getFaction(), faction)) continue;
-      if (ship2.getPosition().dst(doorPos) < SENSOR_DIST) return true;
+    QUERY.circle(doorPos, SENSOR_DIST).ofType(ManiShip.class).excluding(ship)
+      .relatedTo(ship.getPilot().getFaction(), AreaQuery.Relation.NOT_ENEMIES);
+    game.getObjMan().query(QUERY, NEAR_OBJS);
+    for (int i = 0, sz = NEAR_OBJS.size(); i < sz; i++) {
+      ManiShip ship2 = (ManiShip) NEAR_OBJS.get(i);
+      if (ship2.getPilot().isUp()) return true;
     }
     return false;
   }
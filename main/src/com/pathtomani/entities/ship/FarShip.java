@@ -18,6 +18,7 @@
 
 import com.badlogic.gdx.math.Vector2;
 import com.pathtomani.game.FarObj;
+import com.pathtomani.game.HardnessCalc;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.RemoveController;
 import com.pathtomani.entities.gun.GunItem;
@@ -43,6 +44,9 @@ public class FarShip implements FarObj {
   private ShipRepairer myRepairer;
   private float myMoney;
   private final TradeContainer myTradeContainer;
+  private float myEconomyTime;
+  private final float myDps;
+  private final float myDmgCap;
 
   public FarShip(Vector2 pos, Vector2 spd, float angle, float rotSpd, Pilot pilot, ItemContainer container,
     HullConfig hullConfig, float life,
@@ -66,6 +70,10 @@ public FarShip(Vector2 pos, Vector2 spd, float angle, float rotSpd, Pilot pilot,
     myTradeContainer = tradeContainer;
     myShield = shield;
     myArmor = armor;
+    myEconomyTime = -1;
+    // far ships can't change their equipment
+    myDps = HardnessCalc.getGunDps(gun1) + HardnessCalc.getGunDps(gun2);
+    myDmgCap = HardnessCalc.getDmgCap(hullConfig, armor, shield);
 
     if (myPilot.isPlayer()) {
       if (myShield != null) {
@@ -90,6 +98,7 @@ public boolean shouldBeRemoved(ManiGame game) {
 
   @Override
   public ManiShip toObj(ManiGame game) {
+    updateEconomy(game);
     return game.getShipBuilder().build(game, myPos, mySpd, myAngle, myRotSpd, myPilot, myContainer, myHullConfig, myLife, myGun1,
       myGun2, myRemoveController, myEngine, myRepairer, myMoney, myTradeContainer, myShield, myArmor);
   }
@@ -97,8 +106,20 @@ public ManiShip toObj(ManiGame game) {
   @Override
   public void update(ManiGame game) {
     myPilot.updateFar(game, this);
-    if (myTradeContainer != null) myTradeContainer.update(game);
-    if (myRepairer != null) myLife += myRepairer.tryRepair(game, myContainer, myLife, myHullConfig);
+    if (myEconomyTime < 0) myEconomyTime = game.getTime();
+  }
+
+  /**
+   * Catches up on trading and repairs for the time passed since the previous call. Called in batches by {@link FarShipEconomy}
+   */
+  public void updateEconomy(ManiGame game) {
+    if (myEconomyTime < 0) return;
+    float now = game.getTime();
+    float elapsed = now - myEconomyTime;
+    myEconomyTime = now;
+    if (elapsed <= 0) return;
+    if (myTradeContainer != null) myTradeContainer.update(elapsed);
+    if (myRepairer != null) myLife += myRepairer.tryRepair(game, myContainer, myLife, myHullConfig, elapsed);
   }
 
   @Override
@@ -182,4 +203,12 @@ public float getMoney() {
   public ItemContainer getIc() {
     return myContainer;
   }
+
+  public float getDps() {
+    return myDps;
+  }
+
+  public float getDmgCap() {
+    return myDmgCap;
+  }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.entities.ship;
+
+import com.pathtomani.game.ManiGame;
+
+import java.util.List;
+
+/**
+ * Runs trading and repairs of the far ships in one batch every {@code ECONOMY_TICK} seconds instead of every tick.
+ * Each far ship keeps track of its own elapsed time, so the results match the per-tick updates.
+ */
+public class FarShipEconomy {
+  public static final float ECONOMY_TICK = 1f;
+  private float myAwait;
+
+  public void update(ManiGame game, List<FarShip> farShips) {
+    if (0 < myAwait) {
+      myAwait -= game.getTimeStep();
+      return;
+    }
+    myAwait = ECONOMY_TICK;
+    for (int i = 0, farShipsSize = farShips.size(); i < farShipsSize; i++) {
+      FarShip ship = farShips.get(i);
+      ship.updateEconomy(game);
+    }
+  }
+}
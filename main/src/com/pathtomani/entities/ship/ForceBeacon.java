@@ -18,6 +18,7 @@
 
 import com.badlogic.gdx.math.Vector2;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.game.AreaQuery;
 import com.pathtomani.game.Faction;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.ManiObject;
@@ -25,11 +26,15 @@
 import com.pathtomani.managers.input.Pilot;
 import com.pathtomani.gfx.particle.ParticleSrc;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ForceBeacon {
 
   public static final float MAX_PULL_DIST = .7f;
+  private static final List<ManiObject> NEAR_OBJS = new ArrayList<ManiObject>();
+  private static final AreaQuery QUERY = new AreaQuery();
+  private static final Vector2 TO_ME = new Vector2();
   private final Vector2 myRelPos;
   private final Vector2 myPrevPos;
   private final ParticleSrc myEffect;
@@ -60,16 +65,16 @@ public static ManiShip pullShips(ManiGame game, ManiObject owner, Vector2 ownPos
   {
     ManiShip res = null;
     float minLen = Float.MAX_VALUE;
-    List<ManiObject> objs = game.getObjMan().getObjs();
+    List<ManiObject> objs = NEAR_OBJS;
+    QUERY.circle(ownPos, maxPullDist).ofType(ManiShip.class).excluding(owner)
+      .relatedTo(faction, AreaQuery.Relation.NOT_ENEMIES);
+    game.getObjMan().query(QUERY, objs);
     for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
-      ManiObject o = objs.get(i);
-      if (o == owner) continue;
-      if (!(o instanceof ManiShip)) continue;
-      ManiShip ship = (ManiShip) o;
+      ManiShip ship = (ManiShip) objs.get(i);
       Pilot pilot = ship.getPilot();
       if (pilot.isUp() || pilot.isLeft() || pilot.isRight()) continue;
-      if (game.getFactionMan().areEnemies(faction, pilot.getFaction())) continue;
-      Vector2 toMe = ManiMath.distVec(ship.getPosition(), ownPos);
+      // the velocity is copied by the body, so a shared scratch vector does
+      Vector2 toMe = TO_ME.set(ownPos).sub(ship.getPosition());
       float toMeLen = toMe.len();
       if (toMeLen < maxPullDist) {
         if (toMeLen > 1) toMe.scl(1 / toMeLen);
@@ -81,7 +86,6 @@ public static ManiShip pullShips(ManiGame game, ManiObject owner, Vector2 ownPos
           minLen = toMeLen;
         }
       }
-      ManiMath.free(toMe);
     }
     return res;
   }
@@ -20,6 +20,7 @@
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.AbilityCommonConfig;
+import com.pathtomani.game.AreaQuery;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.ManiObject;
 import com.pathtomani.managers.dra.DraLevel;
@@ -27,8 +28,13 @@
 import com.pathtomani.entities.item.ManiItem;
 import com.pathtomani.gfx.particle.ParticleSrc;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class KnockBack implements ShipAbility {
   public static final int MAX_RADIUS = 8;
+  private static final AreaQuery QUERY = new AreaQuery();
+  private static final List<ManiObject> NEAR_OBJS = new ArrayList<ManiObject>();
   private final Config myConfig;
 
   public KnockBack(Config config) {
@@ -54,8 +60,11 @@ public float getRadius() {
   public boolean update(ManiGame game, ManiShip owner, boolean tryToUse) {
     if (!tryToUse) return false;
     Vector2 ownerPos = owner.getPosition();
-    for (ManiObject o : game.getObjMan().getObjs()) {
-      if (o == owner || !o.receivesGravity()) continue;
+    QUERY.circle(ownerPos, MAX_RADIUS).excluding(owner);
+    game.getObjMan().query(QUERY, NEAR_OBJS);
+    for (int i = 0, sz = NEAR_OBJS.size(); i < sz; i++) {
+      ManiObject o = NEAR_OBJS.get(i);
+      if (!o.receivesGravity()) continue;
       Vector2 oPos = o.getPosition();
       float dst = oPos.dst(ownerPos);
       if (dst == 0) continue; // O__o
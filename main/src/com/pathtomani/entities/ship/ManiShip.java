@@ -74,6 +74,7 @@ public class ManiShip implements ManiObject {
   private float myFireAwait;
   private float myAbilityAwait;
   private float myControlEnableAwait;
+  private final CombatStats myCombatStats = new CombatStats();
 
   public ManiShip(ManiGame game, Pilot pilot, Hull hull, RemoveController removeController, List<Dra> dras,
                   ItemContainer container, ShipRepairer repairer, float money, TradeContainer tradeContainer, Shield shield,
@@ -220,7 +221,10 @@ public float getAcc() {
   @Override
   public void update(ManiGame game) {
     ManiShip nearestEnemy = game.getFactionMan().getNearestEnemy(game, this);
+    TickTimes tickTimes = game.getTickTimes();
+    tickTimes.begin(TickTimes.Stage.PILOTS);
     myPilot.update(game, this, nearestEnemy);
+    tickTimes.end(TickTimes.Stage.PILOTS);
     myHull.update(game, myItemContainer, myPilot, this, nearestEnemy);
 
     updateAbility(game);
@@ -319,6 +323,11 @@ public boolean canUseAbility() {
     return myItemContainer.count(example) > 0;
   }
 
+  public CombatStats getCombatStats() {
+    myCombatStats.update(myHull.config, myArmor, myShield, myHull.getGun(false), myHull.getGun(true));
+    return myCombatStats;
+  }
+
   public float getPullDist() {
     return PULL_DIST + myHull.config.getApproxRadius();
   }
@@ -22,7 +22,6 @@
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.physics.box2d.joints.PrismaticJoint;
 import com.badlogic.gdx.physics.box2d.joints.PrismaticJointDef;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.ManiGame;
@@ -33,6 +32,7 @@
 import com.pathtomani.gfx.particle.LightSrc;
 import com.pathtomani.entities.ship.hulls.HullConfig;
 import com.pathtomani.gfx.ManiColor;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.managers.files.HullConfigManager;
 import com.pathtomani.game.Faction;
@@ -58,6 +58,10 @@ public ShipBuilder() {
     myPathLoader = new PathLoader();
   }
 
+  public void dispose() {
+    myPathLoader.dispose();
+  }
+
   public FarShip buildNewFar(ManiGame game, Vector2 pos, Vector2 spd, float angle, float rotSpd, Pilot pilot,
                              String items, HullConfig hullConfig,
                              RemoveController removeController,
@@ -211,10 +215,11 @@ private Hull buildHull(ManiGame game, Vector2 pos, Vector2 spd, float angle, flo
                          float life, ArrayList<Dra> dras)
   {
       //TODO: This logic belongs in the HullConfigManager/HullConfig
-      FileHandle hullPropertiesFile =  FileManager.getInstance().getHullsDirectory().child(hullConfig.getInternalName()).child(HullConfigManager.PROPERTIES_FILE_NAME);
-      JsonReader reader = new JsonReader();
-      JsonValue rigidBodyNode = reader.parse(hullPropertiesFile).get("rigidBody");
-      myPathLoader.readJson(rigidBodyNode, hullConfig);
+      if (!myPathLoader.hasRigidBody(hullConfig.getInternalName())) {
+        FileHandle hullPropertiesFile =  FileManager.getInstance().getHullsDirectory().child(hullConfig.getInternalName()).child(HullConfigManager.PROPERTIES_FILE_NAME);
+        JsonValue rigidBodyNode = ContentCache.parseJson(hullPropertiesFile).get("rigidBody");
+        myPathLoader.readJson(rigidBodyNode, hullConfig);
+      }
 
     BodyDef.BodyType bodyType = hullConfig.getType() == HullConfig.Type.STATION ? BodyDef.BodyType.KinematicBody : BodyDef.BodyType.DynamicBody;
     DraLevel level = hullConfig.getType() == HullConfig.Type.STD ? DraLevel.BODIES : DraLevel.BIG_BODIES;
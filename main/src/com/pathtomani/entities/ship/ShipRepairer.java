@@ -49,6 +49,28 @@ public float tryRepair(ManiGame game, ItemContainer ic, float life, HullConfig c
     return 0;
   }
 
+  /**
+   * Same as {@code tryRepair()}, but for a span of time that can include many ticks.
+   * Consumes as many repair kits as the ticks one by one would.
+   */
+  public float tryRepair(ManiGame game, ItemContainer ic, float life, HullConfig config, float elapsed) {
+    float toRepair = REPAIR_SPD * elapsed;
+    float missingLife = config.getMaxLife() - life;
+    if (missingLife < toRepair) toRepair = missingLife;
+    float res = 0;
+    while (toRepair > 0) {
+      if (myRepairPoints <= 0) {
+        if (!ic.tryConsumeItem(game.getItemMan().getRepairExample())) break;
+        myRepairPoints = RepairItem.LIFE_AMT;
+      }
+      float inc = toRepair < myRepairPoints ? toRepair : myRepairPoints;
+      myRepairPoints -= inc;
+      toRepair -= inc;
+      res += inc;
+    }
+    return res;
+  }
+
   public float getRepairPoints() {
     return myRepairPoints;
   }
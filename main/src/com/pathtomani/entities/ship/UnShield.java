@@ -20,6 +20,7 @@
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.AbilityCommonConfig;
+import com.pathtomani.game.AreaQuery;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.ManiObject;
 import com.pathtomani.entities.item.ManiItem;
@@ -29,8 +30,13 @@
 import com.pathtomani.entities.item.Shield;
 import com.pathtomani.gfx.particle.ParticleSrc;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class UnShield implements ShipAbility {
   public static final int MAX_RADIUS = 6;
+  private static final AreaQuery QUERY = new AreaQuery();
+  private static final List<ManiObject> NEAR_OBJS = new ArrayList<ManiObject>();
   private final Config myConfig;
 
   public UnShield(Config config) {
@@ -56,14 +62,16 @@ public float getRadius() {
   public boolean update(ManiGame game, ManiShip owner, boolean tryToUse) {
     if (!tryToUse) return false;
     Vector2 ownerPos = owner.getPosition();
-    for (ManiObject o : game.getObjMan().getObjs()) {
-      if (!(o instanceof ManiShip) || o == owner) continue;
+    QUERY.circle(ownerPos, MAX_RADIUS).ofType(ManiShip.class).excluding(owner)
+      .relatedTo(owner.getPilot().getFaction(), AreaQuery.Relation.ENEMIES);
+    game.getObjMan().query(QUERY, NEAR_OBJS);
+    for (int i = 0, sz = NEAR_OBJS.size(); i < sz; i++) {
+      ManiObject o = NEAR_OBJS.get(i);
       ManiShip oShip = (ManiShip) o;
       Shield shield = oShip.getShield();
       if (shield == null) continue;
       float shieldLife = shield.getLife();
       if (shieldLife <= 0) continue;
-      if (!game.getFactionMan().areEnemies(oShip, owner)) continue;
       Vector2 oPos = o.getPosition();
       float dst = oPos.dst(ownerPos);
       float perc = KnockBack.getPerc(dst, MAX_RADIUS);
@@ -17,11 +17,11 @@
 package com.pathtomani.game;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.managers.sound.SoundManager;
 import com.pathtomani.gfx.GameColors;
 import com.pathtomani.gfx.TextureManager;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.gfx.particle.EffectTypes;
 
@@ -33,10 +33,8 @@ public class AbilityCommonConfigs {
     public final AbilityCommonConfig sloMo;
 
     public AbilityCommonConfigs(EffectTypes effectTypes, TextureManager textureManager, GameColors cols, SoundManager soundManager) {
-        JsonReader r = new JsonReader();
-
         FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("abilities.json");
-        JsonValue node = r.parse(configFile);
+        JsonValue node = ContentCache.parseJson(configFile);
         teleport = AbilityCommonConfig.load(node.get("teleport"), effectTypes, textureManager, cols, configFile, soundManager);
         emWave = AbilityCommonConfig.load(node.get("emWave"), effectTypes, textureManager, cols, configFile, soundManager);
         unShield = AbilityCommonConfig.load(node.get("unShield"), effectTypes, textureManager, cols, configFile, soundManager);
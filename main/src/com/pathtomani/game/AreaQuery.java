@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.ManiMath;
+import com.pathtomani.entities.ship.ManiShip;
+
+/**
+ * Describes an area and the kind of objects to look for in it, for {@link ObjectManager#query}.
+ * Meant to be kept and reused: {@link #circle} and {@link #sector} reset all the filters.
+ */
+public class AreaQuery {
+  public enum Relation {ANY, ENEMIES, NOT_ENEMIES}
+
+  private final Vector2 myCenter;
+  private float myRadius;
+  private boolean mySector;
+  private float myAngle;
+  private float myHalfWidth;
+  private Class<?> myType;
+  private ManiObject myExcluded;
+  private Faction myFaction;
+  private Relation myRelation;
+
+  public AreaQuery() {
+    myCenter = new Vector2();
+    myRelation = Relation.ANY;
+  }
+
+  public AreaQuery circle(Vector2 center, float radius) {
+    myCenter.set(center);
+    myRadius = radius;
+    mySector = false;
+    myType = null;
+    myExcluded = null;
+    myFaction = null;
+    myRelation = Relation.ANY;
+    return this;
+  }
+
+  /**
+   * @param angle the direction of the sector's middle
+   * @param halfWidth the angle between the middle and the edges of the sector
+   */
+  public AreaQuery sector(Vector2 center, float radius, float angle, float halfWidth) {
+    circle(center, radius);
+    mySector = true;
+    myAngle = angle;
+    myHalfWidth = halfWidth;
+    return this;
+  }
+
+  public AreaQuery ofType(Class<?> type) {
+    myType = type;
+    return this;
+  }
+
+  public AreaQuery excluding(ManiObject excluded) {
+    myExcluded = excluded;
+    return this;
+  }
+
+  /**
+   * Accepts only ships with the given relation to the faction
+   */
+  public AreaQuery relatedTo(Faction faction, Relation relation) {
+    myFaction = faction;
+    myRelation = relation;
+    return this;
+  }
+
+  public Vector2 getCenter() {
+    return myCenter;
+  }
+
+  public float getRadius() {
+    return myRadius;
+  }
+
+  /**
+   * The distance isn't checked here, the object is expected to come from a radius query
+   */
+  boolean matches(ManiObject o, FactionManager factionManager) {
+    if (o == myExcluded) return false;
+    if (myType != null && !myType.isInstance(o)) return false;
+    if (myRelation != Relation.ANY) {
+      if (!(o instanceof ManiShip)) return false;
+      boolean enemies = factionManager.areEnemies(myFaction, ((ManiShip) o).getPilot().getFaction());
+      if (enemies != (myRelation == Relation.ENEMIES)) return false;
+    }
+    if (mySector) {
+      Vector2 pos = o.getPosition();
+      if (pos.equals(myCenter)) return true;
+      if (myHalfWidth < ManiMath.angleDiff(ManiMath.angle(myCenter, pos), myAngle)) return false;
+    }
+    return true;
+  }
+}
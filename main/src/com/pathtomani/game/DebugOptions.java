@@ -56,6 +56,11 @@ public class DebugOptions {
   public static boolean OBJ_INFO = false;
   public static boolean SOUND_INFO = false;
   public static boolean TEX_INFO = false;
+  public static boolean DRAW_INFO = false;
+  public static boolean ALLOC_INFO = false;
+  public static int TEX_BUDGET_MB = 64;
+  public static boolean PROFILER = false;
+  public static boolean CONTENT_CACHE = true;
   public static MissingResourceAction MISSING_SOUND_ACTION;
   public static MissingResourceAction MISSING_TEXTURE_ACTION;
   public static MissingResourceAction MISSING_PHYSICS_ACTION;
@@ -88,6 +93,11 @@ public static void read(ManiFileReader reader) {
     OBJ_INFO = r.getBoolean("objInfo", OBJ_INFO);
     SOUND_INFO = r.getBoolean("soundInfo", SOUND_INFO);
     TEX_INFO = r.getBoolean("texInfo", TEX_INFO);
+    DRAW_INFO = r.getBoolean("drawInfo", DRAW_INFO);
+    ALLOC_INFO = r.getBoolean("allocInfo", ALLOC_INFO);
+    TEX_BUDGET_MB = r.getInt("texBudgetMb", TEX_BUDGET_MB);
+    PROFILER = r.getBoolean("profiler", PROFILER);
+    CONTENT_CACHE = r.getBoolean("contentCache", CONTENT_CACHE);
     MISSING_SOUND_ACTION = MissingResourceAction.forName(r.getString("missingSoundAction", MissingResourceAction.IGNORE.name));
     MISSING_TEXTURE_ACTION = MissingResourceAction.forName(r.getString("missingTextureAction", MissingResourceAction.IGNORE.name));
     MISSING_PHYSICS_ACTION = MissingResourceAction.forName(r.getString("missingPhysicsAction", MissingResourceAction.IGNORE.name));
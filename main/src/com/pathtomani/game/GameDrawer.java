@@ -50,6 +50,18 @@ public void end() {
     myDrawer.end();
   }
 
+  /**
+   * Flushes the pending sprites and releases the GL state, so that a mesh can be rendered with its own shader.
+   * Must be followed by {@link #resumeBatch()}
+   */
+  public void suspendBatch() {
+    myDrawer.suspendBatch();
+  }
+
+  public void resumeBatch() {
+    myDrawer.resumeBatch();
+  }
+
   public void drawString(String s, float x, float y, float size, boolean centered, Color col) {
     maybeChangeAdditive(false);
     myDrawer.drawString(s, x, y, size, centered, col);
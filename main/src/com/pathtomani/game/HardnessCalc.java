@@ -27,7 +27,6 @@
 import com.pathtomani.entities.ship.FarShip;
 import com.pathtomani.entities.ship.ManiShip;
 import com.pathtomani.entities.ship.hulls.GunSlot;
-import com.pathtomani.entities.ship.hulls.Hull;
 import com.pathtomani.entities.ship.hulls.HullConfig;
 
 import java.util.Iterator;
@@ -183,29 +182,28 @@ public static float getSysDps(SysConfig c, boolean inner) {
     return getShipConfListDps(inner ? c.innerTempEnemies : c.tempEnemies);
   }
 
-  private static float getGunDps(GunItem g) {
+  public static float getGunDps(GunItem g) {
     if (g == null) return 0;
     return g.config.meanDps;
   }
 
   public static float getShipDps(ManiShip s) {
-    Hull h = s.getHull();
-    return getGunDps(h.getGun(false)) + getGunDps(h.getGun(true));
+    return s.getCombatStats().getDps();
   }
 
   public static float getFarShipDps(FarShip s) {
-    return getGunDps(s.getGun(false)) + getGunDps(s.getGun(true));
+    return s.getDps();
   }
 
   public static float getShipDmgCap(ManiShip s) {
-    return getDmgCap(s.getHull().config, s.getArmor(), s.getShield());
+    return s.getCombatStats().getDmgCap();
   }
 
   public static float getFarShipDmgCap(FarShip s) {
-    return getDmgCap(s.getHullConfig(), s.getArmor(), s.getShield());
+    return s.getDmgCap();
   }
 
-  private static float getDmgCap(HullConfig hull, Armor armor, Shield shield) {
+  public static float getDmgCap(HullConfig hull, Armor armor, Shield shield) {
     float r = hull.getMaxLife();
     if (armor != null) r *= 1 / (1 - armor.getPerc());
     if (shield != null) r += shield.getMaxLife() * SHIELD_MUL;
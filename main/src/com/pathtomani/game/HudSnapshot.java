@@ -0,0 +1,238 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.pathtomani.common.Const;
+import com.pathtomani.common.ManiMath;
+import com.pathtomani.entities.planet.ManiSystem;
+import com.pathtomani.entities.planet.Planet;
+import com.pathtomani.entities.planet.PlanetManager;
+import com.pathtomani.entities.ship.FarShip;
+import com.pathtomani.entities.ship.ManiShip;
+import com.pathtomani.game.screens.BorderDrawer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the HUD needs to know about the hero's surroundings, gathered once per tick after the objects are updated.
+ * The warnings, the border icons and the zone announcer only read from here, so their cost doesn't grow with
+ * the number of objects in the game.
+ */
+public class HudSnapshot {
+  private final AreaQuery myQuery;
+  private final ArrayList<ManiObject> myEnemies;
+  private final ArrayList<ManiObject> myNearIconObjs;
+  private final ArrayList<FarShip> myFarIconShips;
+  private final ArrayList<StarPort.MyFar> myFarIconPorts;
+  private final MyRayBack myRayBack;
+  private final Vector2 myBrakeEnd;
+  private float myHeroDmgCap;
+  private float myDps;
+  private boolean myCollisionAhead;
+  private boolean mySunNear;
+  private String myZone;
+  private String myZonePref;
+
+  public HudSnapshot() {
+    myQuery = new AreaQuery();
+    myEnemies = new ArrayList<ManiObject>();
+    myNearIconObjs = new ArrayList<ManiObject>();
+    myFarIconShips = new ArrayList<FarShip>();
+    myFarIconPorts = new ArrayList<StarPort.MyFar>();
+    myRayBack = new MyRayBack();
+    myBrakeEnd = new Vector2();
+  }
+
+  /**
+   * Must be called after the hero for the tick is known
+   */
+  public void update(ManiGame game) {
+    ManiShip hero = game.getHero();
+    updateZone(game);
+    updateIcons(game);
+    updateThreats(game, hero);
+    myCollisionAhead = hero != null && isCollisionAhead(game, hero);
+    if (hero == null) {
+      mySunNear = false;
+    } else {
+      Vector2 pos = hero.getPosition();
+      mySunNear = game.getPlanetMan().getNearestSystem(pos).getPos().dst(pos) < Const.SUN_RADIUS;
+    }
+  }
+
+  private void updateZone(ManiGame game) {
+    PlanetManager pm = game.getPlanetMan();
+    Vector2 camPos = game.getCam().getPos();
+    myZone = null;
+    myZonePref = null;
+    Planet p = pm.getNearestPlanet();
+    if (p.getPos().dst(camPos) < p.getFullHeight()) {
+      myZone = p.getName();
+      myZonePref = "Planet";
+      return;
+    }
+    ManiSystem s = pm.getNearestSystem(camPos);
+    if (s.getPos().dst(camPos) < s.getRadius()) {
+      myZone = s.getName();
+      myZonePref = "System";
+    }
+  }
+
+  private void updateIcons(ManiGame game) {
+    ObjectManager om = game.getObjMan();
+    Vector2 camPos = game.getCam().getPos();
+    float maxDist = BorderDrawer.MAX_ICON_DIST;
+    om.query(myQuery.circle(camPos, maxDist), myNearIconObjs);
+    int kept = 0;
+    for (int i = 0, sz = myNearIconObjs.size(); i < sz; i++) {
+      ManiObject o = myNearIconObjs.get(i);
+      if (o instanceof ManiShip || o instanceof StarPort) myNearIconObjs.set(kept++, o);
+    }
+    for (int i = myNearIconObjs.size() - 1; i >= kept; i--) {
+      myNearIconObjs.remove(i);
+    }
+
+    myFarIconShips.clear();
+    List<FarShip> farShips = om.getFarShips();
+    for (int i = 0, sz = farShips.size(); i < sz; i++) {
+      FarShip ship = farShips.get(i);
+      if (ship.getPos().dst(camPos) < maxDist) myFarIconShips.add(ship);
+    }
+    myFarIconPorts.clear();
+    List<StarPort.MyFar> farPorts = om.getFarPorts();
+    for (int i = 0, sz = farPorts.size(); i < sz; i++) {
+      StarPort.MyFar sp = farPorts.get(i);
+      if (sp.getPos().dst(camPos) < maxDist) myFarIconPorts.add(sp);
+    }
+  }
+
+  private void updateThreats(ManiGame game, ManiShip hero) {
+    myEnemies.clear();
+    myDps = 0;
+    if (hero == null) {
+      myHeroDmgCap = Float.MAX_VALUE;
+      return;
+    }
+    myHeroDmgCap = HardnessCalc.getShipDmgCap(hero);
+    myQuery.circle(hero.getPosition(), game.getCam().getViewDist()).ofType(ManiShip.class).excluding(hero)
+      .relatedTo(hero.getPilot().getFaction(), AreaQuery.Relation.ENEMIES);
+    game.getObjMan().query(myQuery, myEnemies);
+    for (int i = 0, sz = myEnemies.size(); i < sz; i++) {
+      myDps += HardnessCalc.getShipDps((ManiShip) myEnemies.get(i));
+    }
+  }
+
+  private boolean isCollisionAhead(ManiGame game, ManiShip hero) {
+    Vector2 pos = hero.getPosition();
+    Vector2 spd = hero.getSpd();
+    float acc = hero.getAcc();
+    float spdLen = spd.len();
+    if (acc <= 0 || spdLen < 2 * acc) return false;
+    // t = v/a;
+    // s = att/2 = vv/a/2;
+    float breakWay = spdLen * spdLen / acc / 2;
+    breakWay += 2 * spdLen;
+    ManiMath.fromAl(myBrakeEnd, ManiMath.angle(spd), breakWay);
+    myBrakeEnd.add(pos);
+    myRayBack.hero = hero;
+    myRayBack.hit = false;
+    game.getObjMan().getWorld().rayCast(myRayBack, pos, myBrakeEnd);
+    myRayBack.hero = null;
+    return myRayBack.hit;
+  }
+
+  /**
+   * @return Float.MAX_VALUE if there's no hero
+   */
+  public float getHeroDmgCap() {
+    return myHeroDmgCap;
+  }
+
+  /**
+   * @return the enemy ships within the view distance of the hero
+   */
+  public List<ManiObject> getEnemies() {
+    return myEnemies;
+  }
+
+  public float getEnemyDps() {
+    return myDps;
+  }
+
+  /**
+   * @return whether the visible enemies together can kill the hero quickly
+   */
+  public boolean isDangerous() {
+    return !myEnemies.isEmpty() && HardnessCalc.isDangerous(myHeroDmgCap, myDps);
+  }
+
+  /**
+   * @return whether the hero would hit something before it could stop
+   */
+  public boolean isCollisionAhead() {
+    return myCollisionAhead;
+  }
+
+  public boolean isSunNear() {
+    return mySunNear;
+  }
+
+  /**
+   * @return the name of the planet or system the camera is in, or null
+   */
+  public String getZone() {
+    return myZone;
+  }
+
+  public String getZonePref() {
+    return myZonePref;
+  }
+
+  /**
+   * @return the ships and star ports close enough to the camera to have a border icon
+   */
+  public List<ManiObject> getNearIconObjs() {
+    return myNearIconObjs;
+  }
+
+  public List<FarShip> getFarIconShips() {
+    return myFarIconShips;
+  }
+
+  public List<StarPort.MyFar> getFarIconPorts() {
+    return myFarIconPorts;
+  }
+
+  private static class MyRayBack implements RayCastCallback {
+    private ManiShip hero;
+    private boolean hit;
+
+    @Override
+    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+      ManiObject o = (ManiObject) fixture.getBody().getUserData();
+      if (hero == o) {
+        return -1;
+      }
+      hit = true;
+      return 0;
+    }
+  }
+}
@@ -48,12 +48,23 @@ public class ManiCam {
   private float myAngle;
   private float myZoom;
   private Vector2 myPos;
+  private final Vector2 myAppliedPos;
+  private final Vector2 myPrevAppliedPos;
+  private float myPrevAngle;
+  private final Vector2 myPrevPos;
+  private final Vector2 myDrawPos;
+  private float myDrawAngle;
+  private boolean myInterpolated;
 
   public ManiCam(float r) {
     myCamRotStrategy = new CamRotStrategy.ToPlanet();
     myCam = new OrthographicCamera(VIEWPORT_HEIGHT * r, -VIEWPORT_HEIGHT);
     myZoom = calcZoom(Const.CAM_VIEW_DIST_GROUND);
     myPos = new Vector2();
+    myAppliedPos = new Vector2();
+    myPrevAppliedPos = new Vector2();
+    myPrevPos = new Vector2();
+    myDrawPos = new Vector2();
     myTmpVec = new Vector3();
   }
 
@@ -62,6 +73,9 @@ public Matrix4 getMtx() {
   }
 
   public void update(ManiGame game) {
+    myPrevAppliedPos.set(myAppliedPos);
+    myPrevPos.set(myPos);
+    myPrevAngle = myAngle;
 
     float desiredVd = Const.CAM_VIEW_DIST_GROUND;
     float life = 0;
@@ -116,13 +130,14 @@ public void update(ManiGame game) {
 
     Vector2 pos = ManiMath.fromAl(ManiMath.rnd(180), myShake);
     pos.add(myPos);
+    myAppliedPos.set(pos);
     applyPos(pos.x, pos.y);
     ManiMath.free(pos);
 
     float desiredAngle = myCamRotStrategy.getRotation(myPos, game);
     float rotSpd = CAM_ROT_SPD * ts;
     myAngle = ManiMath.approachAngle(myAngle, desiredAngle, rotSpd);
-    applyAngle();
+    applyAngle(myAngle);
 
     float desiredZoom = calcZoom(desiredVd);
     myZoom = ManiMath.approach(myZoom, desiredZoom, ZOOM_CHG_SPD * ts);
@@ -130,6 +145,35 @@ public void update(ManiGame game) {
     myCam.update();
   }
 
+  /**
+   * Places the camera between its two latest updated states. Jumps are not interpolated.
+   * Until {@link #stopInterpolation} is called, {@link #getPos} and {@link #getAngle} return this pose too,
+   * so that the parallax layers and the culling agree with the view matrix.
+   * @param alpha 0 for the state before the latest update, 1 for the current state
+   */
+  public void interpolate(float alpha) {
+    float x = myAppliedPos.x;
+    float y = myAppliedPos.y;
+    myDrawPos.set(myPos);
+    if (myPrevAppliedPos.dst(myAppliedPos) < myZoom * VIEWPORT_HEIGHT) {
+      x = myPrevAppliedPos.x + (x - myPrevAppliedPos.x) * alpha;
+      y = myPrevAppliedPos.y + (y - myPrevAppliedPos.y) * alpha;
+      myDrawPos.set(myPrevPos.x + (myPos.x - myPrevPos.x) * alpha, myPrevPos.y + (myPos.y - myPrevPos.y) * alpha);
+    }
+    myDrawAngle = myPrevAngle + ManiMath.norm(myAngle - myPrevAngle) * alpha;
+    myInterpolated = true;
+    applyPos(x, y);
+    applyAngle(myDrawAngle);
+    myCam.update();
+  }
+
+  /**
+   * Makes {@link #getPos} and {@link #getAngle} return the state of the latest update again, call before updating the game
+   */
+  public void stopInterpolation() {
+    myInterpolated = false;
+  }
+
   private float calcZoom(float vd) {
     float h = vd * ManiMath.sqrt(2);
     return h / VIEWPORT_HEIGHT;
@@ -166,9 +210,9 @@ private void applyInput(ManiGame game) {
     ManiMath.free(v);
   }
 
-  private void applyAngle() {
+  private void applyAngle(float angle) {
     Vector2 v = ManiMath.getVec(0, 1);
-    ManiMath.rotate(v, myAngle);
+    ManiMath.rotate(v, angle);
     myCam.up.set(v.x, v.y, 0); // up is actually down, fcuk!!
     ManiMath.free(v);
   }
@@ -186,28 +230,31 @@ public float getViewDist(float zoom) {
    * @return angle of a vector pointing right on screen
    */
   public float getAngle() {
-    return myAngle;
+    return myInterpolated ? myDrawAngle : myAngle;
   }
 
+  /**
+   * @return the position of the camera, interpolated for the current frame while drawing
+   */
   public Vector2 getPos() {
-    return myPos;
+    return myInterpolated ? myDrawPos : myPos;
   }
 
   public void drawDebug(GameDrawer drawer) {
     float hOver2 = VIEWPORT_HEIGHT * myZoom / 2;
     float wOver2 = hOver2 * drawer.r;
     Vector2 dr = ManiMath.getVec(wOver2, hOver2);
-    ManiMath.rotate(dr, myAngle);
+    ManiMath.rotate(dr, getAngle());
     Vector2 dl = ManiMath.getVec(-wOver2, hOver2);
-    ManiMath.rotate(dl, myAngle);
+    ManiMath.rotate(dl, getAngle());
     Vector2 ul = ManiMath.getVec(dr);
     ul.scl(-1);
     Vector2 ur = ManiMath.getVec(dl);
     ur.scl(-1);
-    dr.add(myPos);
-    dl.add(myPos);
-    ul.add(myPos);
-    ur.add(myPos);
+    dr.add(getPos());
+    dl.add(getPos());
+    ul.add(getPos());
+    ur.add(getPos());
 
     float lw = getRealLineWidth();
     drawer.drawLine(drawer.debugWhiteTex, dr, dl, ManiColor.W, lw, false);
@@ -250,7 +297,7 @@ public void setPos(Vector2 pos) {
   }
 
   public boolean isVisible(Vector2 pos) {
-    Vector2 rp = ManiMath.toRel(pos, myAngle, myPos);
+    Vector2 rp = ManiMath.toRel(pos, getAngle(), getPos());
     boolean res = isRelVisible(rp);
     ManiMath.free(rp);
     return res;
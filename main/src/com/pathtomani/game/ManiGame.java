@@ -80,6 +80,7 @@ public class ManiGame {
   private final ShardBuilder myShardBuilder;
   private final ItemManager myItemManager;
   private final StarPort.Builder myStarPortBuilder;
+  private final StarLaneManager myStarLaneManager;
   private final SoundManager mySoundManager;
   private final PlayerSpawnConfig myPlayerSpawnConfig;
   private final DraDebugger myDraDebugger;
@@ -92,10 +93,13 @@ public class ManiGame {
   private final BeaconHandler myBeaconHandler;
   private final MountDetectDrawer myMountDetectDrawer;
   private final TutorialManager myTutorialManager;
+  private final HudSnapshot myHudSnapshot;
+  private final TickTimes myTickTimes;
 
   private ManiShip myHero;
   private float myTimeStep;
   private float myTime;
+  private float myRenderAlpha;
   private boolean myPaused;
   private final GalaxyFiller myGalaxyFiller;
   private StarPort.Transcendent myTranscendentHero;
@@ -106,6 +110,7 @@ public class ManiGame {
 
   public ManiGame(ManiApplication cmp, boolean usePrevShip, TextureManager textureManager, boolean tut, CommonDrawer commonDrawer) {
     myCmp = cmp;
+    myTickTimes = new TickTimes();
     GameDrawer drawer = new GameDrawer(textureManager, commonDrawer);
     gameColors = new GameColors();
     mySoundManager = new SoundManager();
@@ -127,6 +132,7 @@ public ManiGame(ManiApplication cmp, boolean usePrevShip, TextureManager texture
     ManiContactListener contactListener = new ManiContactListener(this);
     myFactionManager = new FactionManager();
     myObjectManager = new ObjectManager(contactListener, myFactionManager);
+    myHudSnapshot = new HudSnapshot();
     myGridDrawer = new GridDrawer(textureManager);
     myChunkManager = new ChunkManager(myTextureManager);
     myPartMan = new PartMan();
@@ -136,6 +142,7 @@ public ManiGame(ManiApplication cmp, boolean usePrevShip, TextureManager texture
     myShardBuilder = new ShardBuilder(myTextureManager);
     myGalaxyFiller = new GalaxyFiller();
     myStarPortBuilder = new StarPort.Builder();
+    myStarLaneManager = new StarLaneManager();
     myPlayerSpawnConfig = PlayerSpawnConfig.load(hullConfigManager, myItemManager);
     myDraDebugger = new DraDebugger();
     myBeaconHandler = new BeaconHandler(textureManager);
@@ -217,8 +224,20 @@ private void createPlayer(ShipConfig prevShip) {
 
   public void onGameEnd() {
     saveShip();
+    dispose();
+  }
+
+  /**
+   * Releases the native resources of the game without saving the hero's ship
+   */
+  public void dispose() {
     myObjectManager.dispose();
     mySoundManager.dispose();
+    myFarBackgroundManagerOld.dispose();
+    myShipBuilder.dispose();
+    myAsteroidBuilder.dispose();
+    myShardBuilder.dispose();
+    myStarPortBuilder.dispose();
   }
 
   public void saveShip() {
@@ -258,6 +277,7 @@ public GameScreens getScreens() {
   }
 
   public void update() {
+    myCam.stopInterpolation();
     myDraDebugger.update(this);
 
     if (myPaused) return;
@@ -272,13 +292,24 @@ public void update() {
     }
     myTimeStep = Const.REAL_TIME_STEP * myTimeFactor;
     myTime += myTimeStep;
+    myTickTimes.beginTick();
 
+    myTickTimes.begin(TickTimes.Stage.PLANETS);
     myPlanetManager.update(this);
+    myStarLaneManager.update(this);
+    myTickTimes.end(TickTimes.Stage.PLANETS);
     myCam.update(this);
+    myTickTimes.begin(TickTimes.Stage.CHUNKS);
     myChunkManager.update(this);
+    myTickTimes.end(TickTimes.Stage.CHUNKS);
     myMountDetectDrawer.update(this);
+    myTickTimes.begin(TickTimes.Stage.OBJECTS);
     myObjectManager.update(this);
+    myAsteroidBuilder.update(this);
+    myTickTimes.end(TickTimes.Stage.OBJECTS);
+    myTickTimes.begin(TickTimes.Stage.DRA_MAN);
     myDraMan.update(this);
+    myTickTimes.end(TickTimes.Stage.DRA_MAN);
     myMapDrawer.update(this);
     mySoundManager.update(this);
     myBeaconHandler.update(this);
@@ -306,10 +337,17 @@ public void update() {
       }
     }
 
+    myHudSnapshot.update(this);
     if (myTutorialManager != null) myTutorialManager.update();
+    myTickTimes.endTick();
   }
 
-  public void draw() {
+  /**
+   * @param alpha the part of a time step that is accumulated but not simulated yet
+   */
+  public void draw(float alpha) {
+    myRenderAlpha = myPaused ? 1 : alpha;
+    myCam.interpolate(myRenderAlpha);
     myDraMan.draw(this);
   }
 
@@ -334,6 +372,13 @@ public float getTimeStep() {
     return myTimeStep;
   }
 
+  /**
+   * @return where the current frame is between the previous update (0) and the latest one (1)
+   */
+  public float getRenderAlpha() {
+    return myRenderAlpha;
+  }
+
   public ManiCam getCam() {
     return myCam;
   }
@@ -374,6 +419,10 @@ public ManiShip getHero() {
     return myHero;
   }
 
+  public HudSnapshot getHudSnapshot() {
+    return myHudSnapshot;
+  }
+
   public ShipBuilder getShipBuilder() {
     return myShipBuilder;
   }
@@ -459,6 +508,14 @@ public StarPort.Builder getStarPortBuilder() {
     return myStarPortBuilder;
   }
 
+  public StarLaneManager getStarLaneMan() {
+    return myStarLaneManager;
+  }
+
+  public TickTimes getTickTimes() {
+    return myTickTimes;
+  }
+
   public StarPort.Transcendent getTranscendentHero() {
     return myTranscendentHero;
   }
@@ -21,6 +21,7 @@
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.common.Profiler;
 import com.pathtomani.entities.maze.Maze;
 import com.pathtomani.entities.planet.*;
 import com.pathtomani.entities.ship.FarShip;
@@ -47,6 +48,7 @@ public class MapDrawer {
   public static final float GRID_SZ = 40f;
   public static final String MAP_TEX_DIR = "mapObjs/";
   public static final float MIN_ICON_RAD_PX = 16f;
+  private static final int PROFILER_SCOPE = Profiler.register("map");
 
   private final TextureAtlas.AtlasRegion myAtmTex;
   private final TextureAtlas.AtlasRegion myPlanetTex;
@@ -73,7 +75,7 @@ public class MapDrawer {
   private float mySkullTime;
   private float myAreaSkullTime;
   private final float myIconRad;
-
+  private MapStaticLayer myStaticLayer;
 
   public MapDrawer(TextureManager textureManager, float screenHeight) {
     myZoom = MAX_ZOOM / MUL_FACTOR / MUL_FACTOR;
@@ -107,6 +109,7 @@ public boolean isToggled() {
   }
 
   public void draw(GameDrawer drawer, ManiGame game) {
+    Profiler.begin(PROFILER_SCOPE);
     ManiCam cam = game.getCam();
     float iconSz = getIconRadius(cam) * 2;
     float starNodeW = cam.getViewHeight(myZoom) * STAR_NODE_SZ;
@@ -116,7 +119,9 @@ public void draw(GameDrawer drawer, ManiGame game) {
     Planet np = game.getPlanetMan().getNearestPlanet();
     Vector2 camPos = cam.getPos();
     float camAngle = cam.getAngle();
-    float heroDmgCap = hero == null ? Float.MAX_VALUE : HardnessCalc.getShipDmgCap(hero);
+    float heroDmgCap = game.getHudSnapshot().getHeroDmgCap();
+    if (myStaticLayer == null) myStaticLayer = new MapStaticLayer(game.getPlanetMan());
+    myStaticLayer.update(game.getPlanetMan(), heroDmgCap);
 
     drawer.updateMtx(game);
     game.getGridDrawer().draw(drawer, game, GRID_SZ, myLineTex);
@@ -126,6 +131,7 @@ public void draw(GameDrawer drawer, ManiGame game) {
 
     // using ui textures
     drawIcons(drawer, game, iconSz, viewDist, factionManager, hero, camPos, heroDmgCap);
+    Profiler.end(PROFILER_SCOPE);
   }
 
   public float getIconRadius(ManiCam cam) {
@@ -143,7 +149,7 @@ private void drawMazes(GameDrawer drawer, ManiGame game, float viewDist, Planet
       float rad = outerRad - MazeBuilder.BORDER;
       if (viewDist < camPos.dst(mazePos) - rad) continue;
       drawer.draw(myMazeTex, 2 * rad, 2 * rad, rad, rad, mazePos.x, mazePos.y, 45, ManiColor.W);
-      if (HardnessCalc.isDangerous(heroDmgCap, maze.getDps())) {
+      if (myStaticLayer.isMazeDangerous(i)) {
         drawAreaDanger(drawer, outerRad, mazePos, 1, camAngle);
       }
     }
@@ -157,39 +163,30 @@ private void drawPlanets(GameDrawer drawer, ManiGame game, float viewDist, Plane
     ManiCam cam = game.getCam();
     float circleWidth = cam.getRealLineWidth() * 6;
     float vh = cam.getViewHeight(myZoom);
-    for (int i3 = 0, systemsSize1 = systems.size(); i3 < systemsSize1; i3++) {
-      ManiSystem sys = systems.get(i3);
-      drawer.drawCircle(myLineTex, sys.getPos(), sys.getRadius(), ManiColor.UI_MED, circleWidth, vh);
-    }
+    float[] beltIcons = myStaticLayer.getBeltIcons();
     for (int i2 = 0, systemsSize = systems.size(); i2 < systemsSize; i2++) {
       ManiSystem sys = systems.get(i2);
-      float dangerRad = HardnessCalc.isDangerous(heroDmgCap, sys.getDps()) ? sys.getRadius() : 0;
       Vector2 sysPos = sys.getPos();
+      float sysRad = sys.getRadius();
+      float dstToSys = camPos.dst(sysPos);
+      // the whole system is out of the view
+      if (viewDist < dstToSys - sysRad) continue;
+      if (sysRad < dstToSys + viewDist) {
+        drawer.drawCircle(myLineTex, sysPos, sysRad, ManiColor.UI_MED, circleWidth, vh);
+      }
       float rad = Const.SUN_RADIUS;
-      if (camPos.dst(sysPos) - rad < viewDist) {
+      if (dstToSys - rad < viewDist) {
         drawer.draw(myStarTex, 2 * rad, 2 * rad, rad, rad, sysPos.x, sysPos.y, 0, ManiColor.W);
       }
 
-      Vector2 beltIconPos = ManiMath.getVec();
-      ArrayList<SystemBelt> belts = sys.getBelts();
-      for (int i1 = 0, beltsSize = belts.size(); i1 < beltsSize; i1++) {
-        SystemBelt belt = belts.get(i1);
-        float beltRad = belt.getRadius();
-        float halfWidth = belt.getHalfWidth();
-        int beltIconCount = (int) (.12f * beltRad);
-        for (int i = 0; i < beltIconCount; i++) {
-          float angle = 360f * i / beltIconCount;
-          ManiMath.fromAl(beltIconPos, angle, beltRad);
-          beltIconPos.add(sysPos);
-          drawer.draw(myBeltTex, 2 * halfWidth, 2 * halfWidth, halfWidth, halfWidth, beltIconPos.x, beltIconPos.y, angle * 3, ManiColor.W);
-        }
-        float outerRad = beltRad + halfWidth;
-        if (dangerRad < outerRad && HardnessCalc.isDangerous(heroDmgCap, belt.getDps())) dangerRad = outerRad;
-      }
-      ManiMath.free(beltIconPos);
-      if (dangerRad < sys.getInnerRad() && HardnessCalc.isDangerous(heroDmgCap, sys.getInnerDps())) {
-        dangerRad = sys.getInnerRad();
+      for (int i = myStaticLayer.getBeltIconsStart(i2), end = myStaticLayer.getBeltIconsEnd(i2); i < end; i += MapStaticLayer.BELT_ICON_SZ) {
+        float x = beltIcons[i];
+        float y = beltIcons[i + 1];
+        float halfWidth = beltIcons[i + 3];
+        if (viewDist < camPos.dst(x, y) - halfWidth) continue;
+        drawer.draw(myBeltTex, 2 * halfWidth, 2 * halfWidth, halfWidth, halfWidth, x, y, beltIcons[i + 2], ManiColor.W);
       }
+      float dangerRad = myStaticLayer.getSysDangerRad(i2);
       if (dangerRad > 0) {
         drawAreaDanger(drawer, dangerRad, sysPos, .5f, camAngle);
       }
@@ -212,7 +209,7 @@ private void drawPlanets(GameDrawer drawer, ManiGame game, float viewDist, Plane
         gh = planet.getGroundHeight();
         drawer.draw(myPlanetTex, 2 * gh, 2 * gh, gh, gh, planetPos.x, planetPos.y, camAngle, ManiColor.W);
       }
-      float dangerRad = HardnessCalc.isDangerous(heroDmgCap, planet.getGroundDps()) ? gh + Const.ATM_HEIGHT/2 : 0;
+      float dangerRad = myStaticLayer.isPlanetDangerous(i) ? gh + Const.ATM_HEIGHT/2 : 0;
 //      if (dangerRad < gh && HardnessCalc.isDangerous(heroDmgCap, planet.getGroundDps())) dangerRad = gh;
       if (dangerRad > 0) {
         drawAreaDanger(drawer, dangerRad, planetPos, 1, camAngle);
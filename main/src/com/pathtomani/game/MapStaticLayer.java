@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.pathtomani.common.ManiMath;
+import com.pathtomani.entities.maze.Maze;
+import com.pathtomani.entities.planet.Planet;
+import com.pathtomani.entities.planet.PlanetManager;
+import com.pathtomani.entities.planet.ManiSystem;
+import com.pathtomani.entities.planet.SystemBelt;
+
+import java.util.ArrayList;
+
+/**
+ * The parts of the map that don't change between frames: the placement of the belt icons, which is computed once,
+ * and the danger areas of systems, planets and mazes, which are recalculated only when the hero damage capacity changes.
+ */
+public class MapStaticLayer {
+  public static final int BELT_ICON_SZ = 4;
+
+  private final FloatArray myBeltIcons;
+  private final int[] mySysBeltIconEnds;
+  private final float[] mySysDangerRads;
+  private final boolean[] myPlanetDangers;
+  private final boolean[] myMazeDangers;
+  private float myDmgCap;
+
+  public MapStaticLayer(PlanetManager planetManager) {
+    ArrayList<ManiSystem> systems = planetManager.getSystems();
+    myBeltIcons = new FloatArray();
+    mySysBeltIconEnds = new int[systems.size()];
+    mySysDangerRads = new float[systems.size()];
+    myPlanetDangers = new boolean[planetManager.getPlanets().size()];
+    myMazeDangers = new boolean[planetManager.getMazes().size()];
+    myDmgCap = Float.NaN;
+
+    Vector2 beltIconPos = new Vector2();
+    for (int i = 0, systemsSize = systems.size(); i < systemsSize; i++) {
+      ManiSystem sys = systems.get(i);
+      ArrayList<SystemBelt> belts = sys.getBelts();
+      for (int i1 = 0, beltsSize = belts.size(); i1 < beltsSize; i1++) {
+        SystemBelt belt = belts.get(i1);
+        float beltRad = belt.getRadius();
+        float halfWidth = belt.getHalfWidth();
+        int beltIconCount = (int) (.12f * beltRad);
+        for (int i2 = 0; i2 < beltIconCount; i2++) {
+          float angle = 360f * i2 / beltIconCount;
+          ManiMath.fromAl(beltIconPos, angle, beltRad);
+          beltIconPos.add(sys.getPos());
+          myBeltIcons.add(beltIconPos.x);
+          myBeltIcons.add(beltIconPos.y);
+          myBeltIcons.add(angle * 3);
+          myBeltIcons.add(halfWidth);
+        }
+      }
+      mySysBeltIconEnds[i] = myBeltIcons.size;
+    }
+  }
+
+  public void update(PlanetManager planetManager, float heroDmgCap) {
+    if (myDmgCap == heroDmgCap) return;
+    myDmgCap = heroDmgCap;
+
+    ArrayList<ManiSystem> systems = planetManager.getSystems();
+    for (int i = 0, systemsSize = systems.size(); i < systemsSize; i++) {
+      ManiSystem sys = systems.get(i);
+      float dangerRad = HardnessCalc.isDangerous(heroDmgCap, sys.getDps()) ? sys.getRadius() : 0;
+      ArrayList<SystemBelt> belts = sys.getBelts();
+      for (int i1 = 0, beltsSize = belts.size(); i1 < beltsSize; i1++) {
+        SystemBelt belt = belts.get(i1);
+        float outerRad = belt.getRadius() + belt.getHalfWidth();
+        if (dangerRad < outerRad && HardnessCalc.isDangerous(heroDmgCap, belt.getDps())) dangerRad = outerRad;
+      }
+      if (dangerRad < sys.getInnerRad() && HardnessCalc.isDangerous(heroDmgCap, sys.getInnerDps())) {
+        dangerRad = sys.getInnerRad();
+      }
+      mySysDangerRads[i] = dangerRad;
+    }
+
+    ArrayList<Planet> planets = planetManager.getPlanets();
+    for (int i = 0, planetsSize = planets.size(); i < planetsSize; i++) {
+      myPlanetDangers[i] = HardnessCalc.isDangerous(heroDmgCap, planets.get(i).getGroundDps());
+    }
+
+    ArrayList<Maze> mazes = planetManager.getMazes();
+    for (int i = 0, mazesSize = mazes.size(); i < mazesSize; i++) {
+      myMazeDangers[i] = HardnessCalc.isDangerous(heroDmgCap, mazes.get(i).getDps());
+    }
+  }
+
+  /**
+   * @return x, y, angle and half width of each belt icon, {@link #BELT_ICON_SZ} floats per icon
+   */
+  public float[] getBeltIcons() {
+    return myBeltIcons.items;
+  }
+
+  public int getBeltIconsStart(int sysIdx) {
+    return sysIdx == 0 ? 0 : mySysBeltIconEnds[sysIdx - 1];
+  }
+
+  public int getBeltIconsEnd(int sysIdx) {
+    return mySysBeltIconEnds[sysIdx];
+  }
+
+  /**
+   * @return the radius of the danger area around the system, or 0 if there's none
+   */
+  public float getSysDangerRad(int sysIdx) {
+    return mySysDangerRads[sysIdx];
+  }
+
+  public boolean isPlanetDangerous(int planetIdx) {
+    return myPlanetDangers[planetIdx];
+  }
+
+  public boolean isMazeDangerous(int mazeIdx) {
+    return myMazeDangers[mazeIdx];
+  }
+}
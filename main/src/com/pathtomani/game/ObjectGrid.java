@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.LongMap;
+import com.pathtomani.common.Const;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A uniform grid of the active objects, bucketed by their position. It's rebuilt once per tick by the {@link ObjectManager},
+ * so that radius queries don't need to walk all the objects.
+ */
+public class ObjectGrid {
+  public static final float CELL_SZ = 4f;
+  /**
+   * objects keep moving after the grid is rebuilt, so the queries look a bit further than requested
+   */
+  private static final float MARGIN = Const.MAX_MOVE_SPD * 2 * Const.REAL_TIME_STEP;
+  private final LongMap<ArrayList<ManiObject>> myCells;
+  private final ArrayList<ArrayList<ManiObject>> myFreeCells;
+
+  public ObjectGrid() {
+    myCells = new LongMap<ArrayList<ManiObject>>();
+    myFreeCells = new ArrayList<ArrayList<ManiObject>>();
+  }
+
+  public void rebuild(List<ManiObject> objs) {
+    for (ArrayList<ManiObject> cell : myCells.values()) {
+      cell.clear();
+      myFreeCells.add(cell);
+    }
+    myCells.clear();
+    for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
+      ManiObject o = objs.get(i);
+      Vector2 pos = o.getPosition();
+      long key = key(toCell(pos.x), toCell(pos.y));
+      ArrayList<ManiObject> cell = myCells.get(key);
+      if (cell == null) {
+        int freeSz = myFreeCells.size();
+        cell = freeSz == 0 ? new ArrayList<ManiObject>() : myFreeCells.remove(freeSz - 1);
+        myCells.put(key, cell);
+      }
+      cell.add(o);
+    }
+  }
+
+  /**
+   * Fills res with the objects whose position is within the given radius from pos. res is cleared first.
+   */
+  public void query(Vector2 pos, float radius, List<ManiObject> res) {
+    res.clear();
+    float searchRad = radius + MARGIN;
+    int minX = toCell(pos.x - searchRad);
+    int maxX = toCell(pos.x + searchRad);
+    int minY = toCell(pos.y - searchRad);
+    int maxY = toCell(pos.y + searchRad);
+    float radiusSq = radius * radius;
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        ArrayList<ManiObject> cell = myCells.get(key(x, y));
+        if (cell == null) continue;
+        for (int i = 0, cellSize = cell.size(); i < cellSize; i++) {
+          ManiObject o = cell.get(i);
+          if (o.getPosition().dst2(pos) <= radiusSq) res.add(o);
+        }
+      }
+    }
+  }
+
+  private static int toCell(float v) {
+    return (int) Math.floor(v / CELL_SZ);
+  }
+
+  private static long key(int x, int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+}
@@ -26,7 +26,9 @@
 import com.pathtomani.common.DebugCol;
 import com.pathtomani.gfx.ManiColor;
 import com.pathtomani.managers.dra.DraMan;
+import com.pathtomani.entities.item.LootMagnet;
 import com.pathtomani.entities.ship.FarShip;
+import com.pathtomani.entities.ship.FarShipEconomy;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -44,10 +46,16 @@ public class ObjectManager {
   private final World myWorld;
   private final Box2DDebugRenderer myDr;
   private final HashMap<ManiObject, Float> myRadii;
+  private final ObjectGrid myGrid;
+  private final LootMagnet myLootMagnet;
+  private final FactionManager myFactionManager;
+  private final FarShipEconomy myFarShipEconomy;
+  private final RenderInterpolator myInterpolator;
 
   private float myFarEndDist;
   private float myFarBeginDist;
   private float myRadiusRecalcAwait;
+  private boolean myGridStale;
 
   public ObjectManager(ManiContactListener contactListener, FactionManager factionManager) {
     myObjs = new ArrayList<ManiObject>();
@@ -61,6 +69,11 @@ public ObjectManager(ManiContactListener contactListener, FactionManager faction
     myWorld.setContactFilter(new ManiContactFilter(factionManager));
     myDr = new Box2DDebugRenderer();
     myRadii = new HashMap<ManiObject, Float>();
+    myGrid = new ObjectGrid();
+    myLootMagnet = new LootMagnet();
+    myFactionManager = factionManager;
+    myFarShipEconomy = new FarShipEconomy();
+    myInterpolator = new RenderInterpolator();
   }
 
   public boolean containsFarObj(FarObj fo) {
@@ -73,9 +86,15 @@ public boolean containsFarObj(FarObj fo) {
 
   public void update(ManiGame game) {
     addRemove(game);
+    myInterpolator.savePrev(myObjs);
 
     float ts = game.getTimeStep();
+    TickTimes tickTimes = game.getTickTimes();
+    tickTimes.begin(TickTimes.Stage.PHYSICS);
     myWorld.step(ts, 6, 2);
+    tickTimes.end(TickTimes.Stage.PHYSICS);
+    rebuildGrid();
+    myLootMagnet.update(myObjs, myGrid);
 
     ManiCam cam = game.getCam();
     Vector2 camPos = cam.getPos();
@@ -132,7 +151,15 @@ public void update(ManiGame game) {
         removeFo(it, fo);
       }
     }
+    myFarShipEconomy.update(game, myFarShips);
     addRemove(game);
+    // the queries made after the update, like the hud's, must not see the removed objects or miss the added ones
+    if (myGridStale) rebuildGrid();
+  }
+
+  private void rebuildGrid() {
+    myGrid.rebuild(myObjs);
+    myGridStale = false;
   }
 
   private void removeFo(Iterator<FarObjData> it, FarObj fo) {
@@ -173,16 +200,21 @@ private void addRemove(ManiGame game) {
 
   private void removeObjNow(ManiGame game, ManiObject o) {
     myObjs.remove(o);
+    myGridStale = true;
     myRadii.remove(o);
+    myInterpolator.objRemoved(o);
     o.onRemove(game);
     game.getDraMan().objRemoved(o);
+    if (o instanceof StarPort) game.getStarLaneMan().portRemoved((StarPort) o);
   }
 
   public void addObjNow(ManiGame game, ManiObject o) {
     if (DebugOptions.ASSERTIONS && myObjs.contains(o)) throw new AssertionError();
     myObjs.add(o);
+    myGridStale = true;
     recalcRadius(o);
     game.getDraMan().objAdded(o);
+    if (o instanceof StarPort) game.getStarLaneMan().portAdded((StarPort) o);
   }
 
   private boolean isNear(FarObjData fod, Vector2 camPos, float ts) {
@@ -215,9 +247,9 @@ public void drawDebug(GameDrawer drawer, ManiGame game) {
     }
 
     if (DebugOptions.DRAW_PHYSIC_BORDERS) {
-      drawer.end();
+      drawer.suspendBatch();
       myDr.render(myWorld, game.getCam().getMtx());
-      drawer.begin();
+      drawer.resumeBatch();
     }
   }
 
@@ -269,6 +301,33 @@ public void removeObjDelayed(ManiObject obj) {
     myToRemove.add(obj);
   }
 
+  /**
+   * @return the positions of the active objects as of the physics step of the current tick. The objects added or removed
+   * during the update are taken into account at its end
+   */
+  public ObjectGrid getGrid() {
+    return myGrid;
+  }
+
+  /**
+   * Fills res with the active objects in the area that pass the query filters. res is cleared first.
+   */
+  public void query(AreaQuery query, List<ManiObject> res) {
+    myGrid.query(query.getCenter(), query.getRadius(), res);
+    int kept = 0;
+    for (int i = 0, sz = res.size(); i < sz; i++) {
+      ManiObject o = res.get(i);
+      if (query.matches(o, myFactionManager)) res.set(kept++, o);
+    }
+    for (int i = res.size() - 1; i >= kept; i--) {
+      res.remove(i);
+    }
+  }
+
+  public RenderInterpolator getInterpolator() {
+    return myInterpolator;
+  }
+
   public World getWorld() {
     return myWorld;
   }
@@ -22,7 +22,7 @@
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.managers.files.HullConfigManager;
@@ -31,6 +31,7 @@
 import com.pathtomani.entities.ship.hulls.HullConfig;
 import com.pathtomani.common.Const;
 import com.pathtomani.gfx.ManiColor;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.managers.dra.DraLevel;
 
@@ -47,14 +48,17 @@
  * @author Aurelien Ribon | http://www.aurelienribon.com
  */
 public class PathLoader {
+  // fixtures are built for scales rounded to steps of 1%, so that bodies of random sizes can share them
+  private static final float LOG_SCALE_STEP = (float) Math.log(1.01);
 
   // Model
   private final Model model;
 
+  // Shapes built for each body name and scale step, box2d copies them into each fixture
+  private final Map<String, IntMap<Shape[]>> shapeCache = new HashMap<String, IntMap<Shape[]>>();
+
   // Reusable stuff
   private final List<Vector2> vectorPool = new ArrayList<Vector2>();
-  private final PolygonShape tmpPolyShape = new PolygonShape();
-  private final CircleShape tmpCircleShape = new CircleShape();
   private final Vector2 tmpV = new Vector2();
 
   // -------------------------------------------------------------------------
@@ -69,7 +73,7 @@ public class PathLoader {
   public PathLoader(String fileName) {
     FileHandle file = FileManager.getInstance().getAssetsDirectory().child("paths").child(fileName + ".json");
     if (file.exists()) {
-      model = readJson(file.readString());
+      model = readJson(ContentCache.parseJson(file));
     } else {
       model = new Model();
     }
@@ -105,7 +109,7 @@ public PathLoader() {
    * @param body The Box2d body you want to attach the fixture to.
    * @param name The name of the fixture you want to load.
    * @param fd The fixture parameters to apply to the created body fixture.
-   * @param scale The desired scale of the body. The default width is 1.
+   * @param scale The desired scale of the body. The default width is 1. Rounded to a 1% step.
    */
   public boolean attachFixture(Body body, String name, FixtureDef fd, float scale) {
     RigidBodyModel rbModel = model.rigidBodies.get(name);
@@ -113,9 +117,47 @@ public boolean attachFixture(Body body, String name, FixtureDef fd, float scale)
       return false;
     }
 
-    Vector2 origin = tmpV.set(rbModel.origin).scl(scale);
+    IntMap<Shape[]> byScale = shapeCache.get(name);
+    if (byScale == null) {
+      byScale = new IntMap<Shape[]>();
+      shapeCache.put(name, byScale);
+    }
+    int scaleStep = Math.round((float) Math.log(scale) / LOG_SCALE_STEP);
+    Shape[] shapes = byScale.get(scaleStep);
+    if (shapes == null) {
+      shapes = buildShapes(rbModel, (float) Math.exp(scaleStep * LOG_SCALE_STEP));
+      byScale.put(scaleStep, shapes);
+    }
+
+    for (Shape shape : shapes) {
+      fd.shape = shape;
+      body.createFixture(fd);
+    }
+    return true;
+  }
+
+  /**
+   * Disposes the shapes kept for the attached fixtures.
+   */
+  public void dispose() {
+    for (IntMap<Shape[]> byScale : shapeCache.values()) {
+      disposeShapes(byScale);
+    }
+    shapeCache.clear();
+  }
 
+  private static void disposeShapes(IntMap<Shape[]> byScale) {
+    for (Shape[] shapes : byScale.values()) {
+      for (Shape shape : shapes) shape.dispose();
+    }
+  }
+
+  private Shape[] buildShapes(RigidBodyModel rbModel, float scale) {
     int polyCount = rbModel.polys.size();
+    int circleCount = rbModel.circles.size();
+    Shape[] res = new Shape[polyCount + circleCount];
+    Vector2 origin = tmpV.set(rbModel.origin).scl(scale);
+
     for (int i = 0; i < polyCount; i++) {
       PolygonModel poly = rbModel.polys.get(i);
       Vector2[] points = poly.tmpArray;
@@ -127,27 +169,25 @@ public boolean attachFixture(Body body, String name, FixtureDef fd, float scale)
         points[ii].sub(origin);
       }
 
-      tmpPolyShape.set(points);
-      fd.shape = tmpPolyShape;
-      body.createFixture(fd);
+      PolygonShape polyShape = new PolygonShape();
+      polyShape.set(points);
+      res[i] = polyShape;
 
       for (Vector2 point : points) free(point);
     }
 
-    int circleCount = rbModel.circles.size();
     for (int i = 0; i < circleCount; i++) {
       CircleModel circle = rbModel.circles.get(i);
       Vector2 center = newVec(circle.center).scl(scale).sub(origin);
-      float radius = circle.radius * scale;
 
-      tmpCircleShape.setPosition(center);
-      tmpCircleShape.setRadius(radius);
-      fd.shape = tmpCircleShape;
-      body.createFixture(fd);
+      CircleShape circleShape = new CircleShape();
+      circleShape.setPosition(center);
+      circleShape.setRadius(circle.radius * scale);
+      res[polyCount + i] = circleShape;
 
       free(center);
     }
-    return true;
+    return res;
   }
 
   /**
@@ -186,9 +226,15 @@ public Model getInternalModel() {
     return model;
   }
 
+  public boolean hasRigidBody(String name) {
+    return model.rigidBodies.containsKey(name);
+  }
+
   public void readJson(JsonValue rigidBodyNode, HullConfig hullConfig) {
     RigidBodyModel rigidBodyModel = readRigidBody(rigidBodyNode, hullConfig);
     model.rigidBodies.put(rigidBodyModel.name, rigidBodyModel);
+    IntMap<Shape[]> oldShapes = shapeCache.remove(rigidBodyModel.name);
+    if (oldShapes != null) disposeShapes(oldShapes);
   }
 
   // -------------------------------------------------------------------------
@@ -224,9 +270,8 @@ public static class CircleModel {
   // Json reading process
   // -------------------------------------------------------------------------
 
-  private Model readJson(String str) {
+  private Model readJson(JsonValue rootElem) {
     Model m = new Model();
-    JsonValue rootElem = new JsonReader().parse(str);
 
     JsonValue bodiesElems = rootElem.get("rigidBodies");
 
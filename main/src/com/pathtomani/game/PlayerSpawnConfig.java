@@ -17,8 +17,8 @@
 package com.pathtomani.game;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.managers.files.HullConfigManager;
 import com.pathtomani.entities.item.ItemManager;
@@ -35,9 +35,8 @@ public PlayerSpawnConfig(ShipConfig shipConfig, ShipConfig mainStation, ShipConf
   }
 
   public static PlayerSpawnConfig load(HullConfigManager hullConfigs, ItemManager itemManager) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("playerSpawn.json");
-    JsonValue mainNode = r.parse(configFile);
+    JsonValue mainNode = ContentCache.parseJson(configFile);
     JsonValue playerNode = mainNode.get("player");
     ShipConfig shipConfig = ShipConfig.load(hullConfigs, playerNode.get("ship"), itemManager);
     ShipConfig godShipConfig = ShipConfig.load(hullConfigs, playerNode.get("godModeShip"), itemManager);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.ManiMath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Remembers the position and angle each object had before the latest update,
+ * so that frames drawn between two fixed updates can show an interpolated state.
+ */
+public class RenderInterpolator {
+  /**
+   * objects that moved further than this during one update are considered teleported and are drawn as is
+   */
+  public static final float MAX_STEP_DIST = 1f;
+  private final HashMap<ManiObject, Pose> myPrev;
+  private final ArrayList<Pose> myFreePoses;
+
+  public RenderInterpolator() {
+    myPrev = new HashMap<ManiObject, Pose>();
+    myFreePoses = new ArrayList<Pose>();
+  }
+
+  public void savePrev(List<ManiObject> objs) {
+    for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
+      ManiObject o = objs.get(i);
+      Pose pose = myPrev.get(o);
+      if (pose == null) {
+        int freeSz = myFreePoses.size();
+        pose = freeSz == 0 ? new Pose() : myFreePoses.remove(freeSz - 1);
+        myPrev.put(o, pose);
+      }
+      Vector2 pos = o.getPosition();
+      pose.x = pos.x;
+      pose.y = pos.y;
+      pose.angle = o.getAngle();
+    }
+  }
+
+  public void objRemoved(ManiObject o) {
+    Pose pose = myPrev.remove(o);
+    if (pose != null) myFreePoses.add(pose);
+  }
+
+  /**
+   * Writes the interpolated position of the object to pos
+   * @param alpha 0 for the state before the latest update, 1 for the current state
+   * @return the interpolated angle of the object
+   */
+  public float interpolate(ManiObject o, float alpha, Vector2 pos) {
+    Vector2 currPos = o.getPosition();
+    float currAngle = o.getAngle();
+    Pose pose = myPrev.get(o);
+    if (pose == null || 1 <= alpha || MAX_STEP_DIST < currPos.dst(pose.x, pose.y)) {
+      pos.set(currPos);
+      return currAngle;
+    }
+    pos.set(pose.x + (currPos.x - pose.x) * alpha, pose.y + (currPos.y - pose.y) * alpha);
+    return pose.angle + ManiMath.norm(currAngle - pose.angle) * alpha;
+  }
+
+  private static class Pose {
+    public float x;
+    public float y;
+    public float angle;
+  }
+}
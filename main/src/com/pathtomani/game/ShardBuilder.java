@@ -44,6 +44,10 @@ public ShardBuilder(TextureManager textureManager) {
     myTexs = textureManager.getPack("smallGameObjs/shard", null);
   }
 
+  public void dispose() {
+    myPathLoader.dispose();
+  }
+
   public void buildExplosionShards(ManiGame game, Vector2 pos, Vector2 baseSpd, float size) {
     int count = (int) (size * SIZE_TO_SHARD_COUNT);
     for (int i = 0; i < count; i++) {
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.ManiMath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of the active star ports and solves their spacing once per tick, after the planets have moved.
+ */
+public class StarLaneManager {
+  private final List<StarPort> myPorts;
+
+  public StarLaneManager() {
+    myPorts = new ArrayList<StarPort>();
+  }
+
+  public void update(ManiGame game) {
+    for (int i = 0, myPortsSize = myPorts.size(); i < myPortsSize; i++) {
+      StarPort port = myPorts.get(i);
+      Vector2 desiredPos = port.getDesiredPos();
+      StarPort.getDesiredPos(port.getFrom(), port.getTo(), true, desiredPos);
+      // Adjust position so that StarPorts are not overlapping
+      adjustDesiredPos(port, desiredPos);
+    }
+  }
+
+  /**
+   * Moves desired away from all the active star ports except the given one
+   */
+  public void adjustDesiredPos(StarPort port, Vector2 desired) {
+    for (int i = 0, myPortsSize = myPorts.size(); i < myPortsSize; i++) {
+      StarPort sp = myPorts.get(i);
+      if (sp == port) continue;
+      Vector2 otherPos = sp.getPosition();
+      float dx = desired.x - otherPos.x;
+      float dy = desired.y - otherPos.y;
+      float distance = ManiMath.hypotenuse(dx, dy);
+      if (distance == 0 || StarPort.SIZE < distance) continue;
+      float scl = (StarPort.SIZE + .5f) / distance;
+      desired.set(otherPos.x + dx * scl, otherPos.y + dy * scl);
+    }
+  }
+
+  public void portAdded(StarPort port) {
+    myPorts.add(port);
+  }
+
+  public void portRemoved(StarPort port) {
+    myPorts.remove(port);
+  }
+
+  public List<StarPort> getPorts() {
+    return myPorts;
+  }
+}
@@ -51,6 +51,7 @@ public class StarPort implements ManiObject {
   private final Planet myFrom;
   private final Planet myTo;
   private final ArrayList<Dra> myDras;
+  private final Vector2 myDesiredPos;
   private float myAngle;
   private final boolean mySecondary;
 
@@ -62,6 +63,7 @@ public StarPort(Planet from, Planet to, Body body, ArrayList<Dra> dras, boolean
     myLights = lights;
     myPos = new Vector2();
     setParamsFromBody();
+    myDesiredPos = new Vector2(myPos);
     mySecondary = secondary;
   }
 
@@ -71,9 +73,8 @@ public void update(ManiGame game) {
 
     float fps = 1 / game.getTimeStep();
 
-    Vector2 spd = getDesiredPos(myFrom, myTo, true);
-    // Adjust position so that StarPorts are not overlapping
-    spd = adjustDesiredPos(game, this, spd);
+    // desired position is solved by the StarLaneManager so that StarPorts are not overlapping
+    Vector2 spd = ManiMath.getVec(myDesiredPos);
     spd.sub(myPos).scl(fps/4);
     myBody.setLinearVelocity(spd);
     ManiMath.free(spd);
@@ -187,34 +188,23 @@ private void setParamsFromBody() {
 
   @Bound
   public static Vector2 getDesiredPos(Planet from, Planet to, boolean percise) {
-    Vector2 fromPos = from.getPos();
-    float angle = ManiMath.angle(fromPos, to.getPos(), percise);
     Vector2 pos = ManiMath.getVec();
-    ManiMath.fromAl(pos, angle, from.getFullHeight() + DIST_FROM_PLANET);
-    pos.add(fromPos);
+    getDesiredPos(from, to, percise, pos);
     return pos;
   }
 
-  private static Vector2 adjustDesiredPos(ManiGame game, StarPort myPort, Vector2 desired) {
-    Vector2 newPos = desired;
-    List<ManiObject> objs = game.getObjMan().getObjs();
-    for (ManiObject o : objs) {
-      if (o instanceof StarPort && o != myPort) {
-        StarPort sp = (StarPort)o;
-        // Check if the positions overlap
-        Vector2 fromPos = sp.getPosition();
-        Vector2 distVec = ManiMath.distVec(fromPos, desired);
-        float distance = ManiMath.hypotenuse(distVec.x, distVec.y);
-        if (distance <= (float)StarPort.SIZE) {
-          distVec.scl((StarPort.SIZE + .5f) / distance);
-          newPos = fromPos.cpy().add(distVec);
-          Vector2 d2 = ManiMath.distVec(fromPos, newPos);
-          ManiMath.free(d2);
-        }
-        ManiMath.free(distVec);
-      }
-    }
-    return newPos;
+  public static void getDesiredPos(Planet from, Planet to, boolean percise, Vector2 res) {
+    Vector2 fromPos = from.getPos();
+    float angle = ManiMath.angle(fromPos, to.getPos(), percise);
+    ManiMath.fromAl(res, angle, from.getFullHeight() + DIST_FROM_PLANET);
+    res.add(fromPos);
+  }
+
+  /**
+   * @return the position this port is moving to. Updated by the {@link StarLaneManager}
+   */
+  public Vector2 getDesiredPos() {
+    return myDesiredPos;
   }
 
   public Planet getFrom() {
@@ -233,11 +223,15 @@ public Builder() {
       myLoader = new PathLoader("misc");
     }
 
+    public void dispose() {
+      myLoader.dispose();
+    }
+
     public StarPort build(ManiGame game, Planet from, Planet to, boolean secondary) {
       float angle = ManiMath.angle(from.getPos(), to.getPos());
       Vector2 pos = getDesiredPos(from, to, false);
       // Adjust position so that StarPorts are not overlapping
-      pos = adjustDesiredPos(game, null, pos);
+      game.getStarLaneMan().adjustDesiredPos(null, pos);
       ArrayList<Dra> dras = new ArrayList<Dra>();
       Body body = myLoader.getBodyAndSprite(game, "smallGameObjs", "starPort", SIZE,
         BodyDef.BodyType.KinematicBody, new Vector2(pos), angle, dras, 10f, DraLevel.BIG_BODIES, null);
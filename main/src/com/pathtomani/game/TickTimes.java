@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game;
+
+import com.pathtomani.common.Profiler;
+
+/**
+ * Accumulates the time spent in each subsystem during one {@link ManiGame#update()}.
+ * Does nothing until enabled, so the hooks can stay in the hot paths.
+ * Stages may be nested (pilots and particles run inside the object manager update) and may be entered many times per tick.
+ * Each stage is also a {@link Profiler} scope.
+ */
+public class TickTimes {
+  public enum Stage {
+    PLANETS("planets"),
+    CHUNKS("chunks"),
+    OBJECTS("objects"),
+    PHYSICS("physics"),
+    PILOTS("pilots"),
+    PARTICLES("particles"),
+    DRA_MAN("draMan");
+
+    public final String displayName;
+    public final int scope;
+
+    Stage(String displayName) {
+      this.displayName = displayName;
+      scope = Profiler.register(displayName);
+    }
+  }
+
+  private static final Stage[] STAGES = Stage.values();
+  private final long[] myStarts;
+  private final long[] myTotals;
+  private long myTickStart;
+  private long myTickTotal;
+  private boolean myEnabled;
+
+  public TickTimes() {
+    myStarts = new long[STAGES.length];
+    myTotals = new long[STAGES.length];
+  }
+
+  public void setEnabled(boolean enabled) {
+    myEnabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return myEnabled;
+  }
+
+  public void beginTick() {
+    if (!myEnabled) return;
+    for (int i = 0; i < myTotals.length; i++) {
+      myTotals[i] = 0;
+    }
+    myTickStart = System.nanoTime();
+  }
+
+  public void endTick() {
+    if (!myEnabled) return;
+    myTickTotal = System.nanoTime() - myTickStart;
+  }
+
+  public void begin(Stage stage) {
+    Profiler.begin(stage.scope);
+    if (!myEnabled) return;
+    myStarts[stage.ordinal()] = System.nanoTime();
+  }
+
+  public void end(Stage stage) {
+    Profiler.end(stage.scope);
+    if (!myEnabled) return;
+    int idx = stage.ordinal();
+    myTotals[idx] += System.nanoTime() - myStarts[idx];
+  }
+
+  /**
+   * @return the time spent in the stage during the latest tick, in nanoseconds
+   */
+  public long get(Stage stage) {
+    return myTotals[stage.ordinal()];
+  }
+
+  /**
+   * @return the duration of the latest whole tick, in nanoseconds
+   */
+  public long getTotal() {
+    return myTickTotal;
+  }
+
+  public static void appendCsvHeader(StringBuilder sb) {
+    sb.append("total");
+    for (Stage s : STAGES) {
+      sb.append(',').append(s.displayName);
+    }
+  }
+
+  /**
+   * Appends the latest tick as comma separated values in microseconds, in the order of {@link #appendCsvHeader}
+   */
+  public void appendCsvRow(StringBuilder sb) {
+    sb.append(myTickTotal / 1000);
+    for (int i = 0; i < myTotals.length; i++) {
+      sb.append(',').append(myTotals[i] / 1000);
+    }
+  }
+}
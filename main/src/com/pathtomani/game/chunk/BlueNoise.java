@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game.chunk;
+
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.Const;
+import com.pathtomani.common.ManiMath;
+
+import java.util.Random;
+
+/**
+ * Hands out positions in a chunk from precomputed blue noise point sets, so that objects are spread evenly
+ * instead of clumping like uniformly random positions do. The points of each set are generated with the best candidate
+ * algorithm, so any prefix of a set is evenly spread too. Each {@link #reset} picks a set and a random shift, flip and
+ * transposition of it, so neighbouring chunks don't repeat the same pattern.
+ */
+class BlueNoise {
+  private static final int SET_COUNT = 4;
+  private static final int SET_SZ = 256;
+  private static final int CANDIDATES = 10;
+  private static final float[][] SETS = buildSets();
+
+  private float[] mySet;
+  private int myNext;
+  private float myShiftX;
+  private float myShiftY;
+  private boolean myFlipX;
+  private boolean myFlipY;
+  private boolean mySwap;
+
+  BlueNoise() {
+    reset();
+  }
+
+  void reset() {
+    mySet = SETS[ManiMath.intRnd(SET_COUNT)];
+    myNext = 0;
+    myShiftX = ManiMath.rnd(0, 1);
+    myShiftY = ManiMath.rnd(0, 1);
+    myFlipX = ManiMath.test(.5f);
+    myFlipY = ManiMath.test(.5f);
+    mySwap = ManiMath.test(.5f);
+  }
+
+  /**
+   * Sets res to the next position in the chunk centered around chCenter, relative to the entire map.
+   * When the current set is used up, continues with another one.
+   */
+  void next(Vector2 chCenter, Vector2 res) {
+    if (myNext == SET_SZ) reset();
+    float x = mySet[2 * myNext];
+    float y = mySet[2 * myNext + 1];
+    myNext++;
+    if (mySwap) {
+      float t = x;
+      x = y;
+      y = t;
+    }
+    x = (x + myShiftX) % 1;
+    y = (y + myShiftY) % 1;
+    if (myFlipX) x = 1 - x;
+    if (myFlipY) y = 1 - y;
+    res.set(chCenter).add((x - .5f) * Const.CHUNK_SIZE, (y - .5f) * Const.CHUNK_SIZE);
+  }
+
+  private static float[][] buildSets() {
+    float[][] res = new float[SET_COUNT][];
+    for (int i = 0; i < SET_COUNT; i++) {
+      res[i] = buildSet(new Random(i));
+    }
+    return res;
+  }
+
+  private static float[] buildSet(Random random) {
+    float[] res = new float[2 * SET_SZ];
+    for (int i = 0; i < SET_SZ; i++) {
+      float bestX = 0;
+      float bestY = 0;
+      float bestDst = -1;
+      for (int c = 0; c < CANDIDATES; c++) {
+        float x = random.nextFloat();
+        float y = random.nextFloat();
+        float dst = Float.MAX_VALUE;
+        for (int j = 0; j < i; j++) {
+          dst = Math.min(dst, torusDst2(x, y, res[2 * j], res[2 * j + 1]));
+        }
+        if (bestDst < dst) {
+          bestDst = dst;
+          bestX = x;
+          bestY = y;
+        }
+      }
+      res[2 * i] = bestX;
+      res[2 * i + 1] = bestY;
+    }
+    return res;
+  }
+
+  // the sets are shifted with wrap around, so they should be even across the edges too
+  private static float torusDst2(float x1, float y1, float x2, float y2) {
+    float dx = Math.abs(x1 - x2);
+    float dy = Math.abs(y1 - y2);
+    dx = Math.min(dx, 1 - dx);
+    dy = Math.min(dy, 1 - dy);
+    return dx * dx + dy * dy;
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.pathtomani.game.chunk;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.pathtomani.common.ManiMath;
@@ -30,7 +31,7 @@
 import com.pathtomani.gfx.ManiColor;
 import com.pathtomani.entities.asteroid.FarAsteroid;
 import com.pathtomani.managers.dra.DraLevel;
-import com.pathtomani.managers.dra.RectSprite;
+import com.pathtomani.managers.dra.SpeckField;
 import com.pathtomani.managers.input.AiPilot;
 import com.pathtomani.managers.input.MoveDestProvider;
 import com.pathtomani.managers.input.Pilot;
@@ -61,10 +62,17 @@ public class ChunkFiller {
   public static final float ENEMY_MAX_ROT_SPD = 15f;
   public static final float DUST_SZ = .02f;
   private static final float MAZE_ZONE_BORDER = 20;
+  private static final int MAX_PLACE_TRIES = 100;
   private final TextureAtlas.AtlasRegion myDustTex;
+  private final ChunkZones myZones;
+  private final BlueNoise myBodySamples;
+  private final BlueNoise myDecoSamples;
 
   public ChunkFiller(TextureManager textureManager) {
     myDustTex = textureManager.getTex("deco/space/dust", null);
+    myZones = new ChunkZones();
+    myBodySamples = new BlueNoise();
+    myDecoSamples = new BlueNoise();
   }
 
   /**
@@ -86,6 +94,12 @@ public void fill(ManiGame game, Vector2 chunk, RemoveController remover, boolean
     // Define the density multiplier for different layers of junk in the far background
     float[] densityMul = {1};
 
+    // Objects with bodies are placed only in the near layer, in the free places of the chunk
+    if (!farBg) {
+      myZones.build(game, chCenter);
+      myBodySamples.reset();
+    }
+
     // Get the environment configuration
     SpaceEnvConfig conf = getConfig(game, chCenter, densityMul, remover, farBg);
 
@@ -155,9 +169,11 @@ private void fillEnemies(ManiGame game, RemoveController remover, ShipConfig ene
     int count = getEntityCount(enemyConf.density);
     if (count == 0) return;
     for (int i = 0; i < count; i++) {
-      Vector2 enemyPos = getFreeRndPos(game, chCenter);
+      Vector2 enemyPos = getFreeRndPos(chCenter);
       FarShip ship = buildSpaceEnemy(game, enemyPos, remover, enemyConf);
-      if (ship != null) game.getObjMan().addFarObjNow(ship);
+      if (ship == null) continue;
+      game.getObjMan().addFarObjNow(ship);
+      myZones.maybeAddBlocker(ship.getPos(), ship.getRadius());
     }
   }
 
@@ -181,7 +197,7 @@ private void fillAsteroids(ManiGame game, RemoveController remover, boolean forB
     int count = getEntityCount(density);
     if (count == 0) return;
     for (int i = 0; i < count; i++) {
-      Vector2 asteroidPos = getFreeRndPos(game, chCenter);
+      Vector2 asteroidPos = getFreeRndPos(chCenter);
       if (asteroidPos == null) continue;
       float minSz = forBelt ? MIN_BELT_A_SZ : MIN_SYS_A_SZ;
       float maxSz = forBelt ? MAX_BELT_A_SZ : MAX_SYS_A_SZ;
@@ -191,6 +207,7 @@ private void fillAsteroids(ManiGame game, RemoveController remover, boolean forB
 
       FarAsteroid a = game.getAsteroidBuilder().buildNewFar(asteroidPos, spd, sz, remover);
       game.getObjMan().addFarObjNow(a);
+      myZones.maybeAddBlocker(a.getPos(), a.getRadius());
     }
   }
 
@@ -215,6 +232,8 @@ private void fillFarJunk(ManiGame game, Vector2 chCenter, RemoveController remov
 
     ArrayList<Dra> dras = new ArrayList<Dra>();
     TextureManager textureManager = game.getTexMan();
+    myDecoSamples.reset();
+    Vector2 junkPos = new Vector2();
 
     for (int i = 0; i < count; i++) {
       // Select a random far junk texture
@@ -226,12 +245,12 @@ private void fillFarJunk(ManiGame game, Vector2 chCenter, RemoveController remov
       // Apply a random rotation speed
       float rotSpd = ManiMath.rnd(FAR_JUNK_MAX_ROT_SPD);
       // Select a random position in the chunk centered around chCenter, relative to the position of the chunk.
-      Vector2 junkPos = getRndPos(chCenter);
+      myDecoSamples.next(chCenter, junkPos);
       junkPos.sub(chCenter);
 
-      // Create the resulting sprite and add it to the list
-      RectSprite s = new RectSprite(tex, sz, 0, 0, junkPos, draLevel, ManiMath.rnd(180), rotSpd, ManiColor.DDG, false);
-      dras.add(s);
+      // Add the piece to the field of its texture page
+      SpeckField field = getField(dras, tex, draLevel, ManiColor.DDG, count);
+      field.add(tex, sz, junkPos.x, junkPos.y, ManiMath.rnd(180), rotSpd, 0, 0);
     }
 
     // Create a common FarDras instance for the pieces of junk and only allow the junk to be drawn when it's not hidden by a planet
@@ -244,7 +263,8 @@ private void fillFarJunk(ManiGame game, Vector2 chCenter, RemoveController remov
    * Add a bunch of a certain type of junk to the background layer closest to the front.
    * <p/>
    * This type of junk moves at the same speed as the camera (similar to the dust) but additionally has its own floating
-   * direction and angle for every individual piece of junk.
+   * direction and angle for every individual piece of junk. All the pieces of the chunk are kept in one {@link SpeckField}
+   * per texture page, which moves them.
    *
    * @param game     The {@link ManiGame} instance to work with
    * @param remover
@@ -256,9 +276,14 @@ private void fillJunk(ManiGame game, RemoveController remover, SpaceEnvConfig co
     int count = getEntityCount(conf.junkDensity);
     if (count == 0) return;
 
+    ArrayList<Dra> dras = new ArrayList<Dra>();
+    myDecoSamples.reset();
+    Vector2 junkPos = new Vector2();
+    Vector2 spd = new Vector2();
     for (int i = 0; i < count; i++) {
-      // Select a random position in the chunk centered around chCenter, relative to the entire map.
-      Vector2 junkPos = getRndPos(chCenter);
+      // Select a random position in the chunk centered around chCenter, relative to the position of the chunk.
+      myDecoSamples.next(chCenter, junkPos);
+      junkPos.sub(chCenter);
 
       // Select a random junk texture
       TextureAtlas.AtlasRegion tex = ManiMath.elemRnd(conf.junkTexs);
@@ -268,19 +293,18 @@ private void fillJunk(ManiGame game, RemoveController remover, SpaceEnvConfig co
       float sz = ManiMath.rnd(.3f, 1) * JUNK_MAX_SZ;
       // Apply a random rotation speed
       float rotSpd = ManiMath.rnd(JUNK_MAX_ROT_SPD);
-
-      // Create the resulting sprite and add it to the list as the only element
-      RectSprite s = new RectSprite(tex, sz, 0, 0, new Vector2(), DraLevel.DECO, ManiMath.rnd(180), rotSpd, ManiColor.LG, false);
-      ArrayList<Dra> dras = new ArrayList<Dra>();
-      dras.add(s);
-
-      // Create a FarDras instance for this piece of junk and only allow it to be drawn when it's not hidden by a planet
-      Vector2 spd = new Vector2();
+      // Choose a random floating direction and speed
       ManiMath.fromAl(spd, ManiMath.rnd(180), ManiMath.rnd(JUNK_MAX_SPD_LEN));
-      FarDras so = new FarDras(dras, junkPos, spd, remover, true);
-      // Add the object to the object manager
-      game.getObjMan().addFarObjNow(so);
+
+      // Add the piece to the field of its texture page
+      SpeckField field = getField(dras, tex, DraLevel.DECO, ManiColor.LG, count);
+      field.add(tex, sz, junkPos.x, junkPos.y, ManiMath.rnd(180), rotSpd, spd.x, spd.y);
     }
+
+    // Create a common FarDras instance for the pieces of junk and only allow the junk to be drawn when it's not hidden by a planet
+    FarDras so = new FarDras(dras, new Vector2(chCenter), new Vector2(), remover, true);
+    // Add the object to the object manager
+    game.getObjMan().addFarObjNow(so);
   }
 
   /**
@@ -293,54 +317,65 @@ private void fillJunk(ManiGame game, RemoveController remover, SpaceEnvConfig co
    * @param remover
    */
   private void fillDust(ManiGame game, Vector2 chCenter, RemoveController remover) {
-    ArrayList<Dra> dras = new ArrayList<Dra>();
     int count = getEntityCount(DUST_DENSITY);
     if (count == 0) return;
 
     TextureAtlas.AtlasRegion tex = myDustTex;
+    SpeckField field = new SpeckField(tex.getTexture(), DraLevel.DECO, ManiColor.W, count);
+    myDecoSamples.reset();
+    Vector2 dustPos = new Vector2();
     for (int i = 0; i < count; i++) {
       // Select a random position in the chunk centered around chCenter, relative to the position of the chunk.
-      Vector2 dustPos = getRndPos(chCenter);
+      myDecoSamples.next(chCenter, dustPos);
       dustPos.sub(chCenter);
-      // Create the resulting sprite and add it to the list
-      RectSprite s = new RectSprite(tex, DUST_SZ, 0, 0, dustPos, DraLevel.DECO, 0, 0, ManiColor.W, false);
-      dras.add(s);
+      // Add the speck to the field
+      field.add(tex, DUST_SZ, dustPos.x, dustPos.y, 0, 0, 0, 0);
     }
 
     // Create a common FarDras instance for the specks of dust and only allow the dust to be drawn when it's not hidden by a planet
+    ArrayList<Dra> dras = new ArrayList<Dra>();
+    dras.add(field);
     FarDras so = new FarDras(dras, chCenter, new Vector2(), remover, true);
     game.getObjMan().addFarObjNow(so);
   }
 
   /**
-   * Find a random position in a chunk centered around chCenter, relative to the entire map, and make sure it is not yet
-   * occupied by another entity.
-   * <p/>
-   * Up to 100 tries will be made to find an unoccupied position; if by then none has been found, <code>null</code> will be returned.
+   * Find the field among the given ones that draws from the texture page of the given texture, or add a new one.
    *
-   * @param g        The {@link ManiGame} instance to work with
-   * @param chCenter The center of a chunk in which a random position should be found
-   * @return A random, unoccupied position in a chunk centered around chCenter, relative to the entire map, or <code>null</code> if within 100 tries no unoccupied position has been found
+   * @param dras     The fields of the chunk so far
+   * @param tex      The texture of the next speck
+   * @param level    The depth of the specks
+   * @param tint     The tint of the specks
+   * @param capacity The number of specks to reserve room for in a new field
+   * @return The field to which the speck should be added
    */
-  private Vector2 getFreeRndPos(ManiGame g, Vector2 chCenter) {
-    for (int i = 0; i < 100; i++) {
-      Vector2 pos = getRndPos(new Vector2(chCenter));
-      if (g.isPlaceEmpty(pos, true)) return pos;
+  private SpeckField getField(ArrayList<Dra> dras, TextureAtlas.AtlasRegion tex, DraLevel level, Color tint,
+                              int capacity) {
+    for (int i = 0, sz = dras.size(); i < sz; i++) {
+      Dra dra = dras.get(i);
+      if (dra.getTex0() == tex.getTexture()) return (SpeckField) dra;
     }
-    return null;
+    SpeckField field = new SpeckField(tex.getTexture(), level, tint, capacity);
+    dras.add(field);
+    return field;
   }
 
   /**
-   * Returns a random position in a chunk centered around chCenter, relative to the entire map.
+   * Find a position in the chunk being filled, relative to the entire map, that is not yet occupied by another entity.
+   * <p/>
+   * The positions are taken from the blue noise samples of the chunk, so that they don't clump. Up to 100 samples will
+   * be tried; if by then no unoccupied position has been found, <code>null</code> will be returned.
    *
-   * @param chCenter The center of a chunk in which a random position should be found
-   * @return A random position in a chunk centered around chCenter, relative to the entire map.
+   * @param chCenter The center of the chunk being filled, the zones of which have been built
+   * @return An unoccupied position in a chunk centered around chCenter, relative to the entire map, or <code>null</code> if within 100 tries no unoccupied position has been found
    */
-  private Vector2 getRndPos(Vector2 chCenter) {
-    Vector2 pos = new Vector2(chCenter);
-    pos.x += ManiMath.rnd(Const.CHUNK_SIZE / 2);
-    pos.y += ManiMath.rnd(Const.CHUNK_SIZE / 2);
-    return pos;
+  private Vector2 getFreeRndPos(Vector2 chCenter) {
+    Vector2 pos = new Vector2();
+    for (int i = 0; i < MAX_PLACE_TRIES; i++) {
+      myBodySamples.next(chCenter, pos);
+      if (myZones.isFree(pos)) return pos;
+    }
+    return null;
   }
 
   /**
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game.chunk;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.pathtomani.common.Const;
+import com.pathtomani.common.ManiMath;
+import com.pathtomani.entities.planet.ManiSystem;
+import com.pathtomani.entities.planet.Planet;
+import com.pathtomani.entities.planet.PlanetManager;
+import com.pathtomani.entities.planet.SunSingleton;
+import com.pathtomani.game.FarObj;
+import com.pathtomani.game.FarObjData;
+import com.pathtomani.game.ManiGame;
+import com.pathtomani.game.ManiObject;
+import com.pathtomani.game.ObjectManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The places in a chunk that are taken by planets, suns and objects with bodies, gathered once per chunk fill.
+ * The chunk is split into cells that are either free, fully blocked, or need an exact check against the few blockers
+ * that touch them, so checking a position doesn't scan all the planets and objects of the game.
+ */
+class ChunkZones {
+  private static final int RES = 8;
+  private static final float CELL_SZ = Const.CHUNK_SIZE / RES;
+  private static final float CELL_HALF_DIAG = CELL_SZ * .5f * 1.4143f;
+  private static final float CHUNK_HALF_DIAG = Const.CHUNK_SIZE * .5f * 1.4143f;
+  private static final byte FREE = 0;
+  private static final byte MIXED = 1;
+  private static final byte BLOCKED = 2;
+
+  private final byte[] myCells;
+  private final Vector2 myChCenter;
+  private final Vector2 myCorner;
+  private final Vector2 myCellCenter;
+  private final ArrayList<Vector2> myBlockerPos;
+  private final FloatArray myBlockerRad;
+
+  ChunkZones() {
+    myCells = new byte[RES * RES];
+    myChCenter = new Vector2();
+    myCorner = new Vector2();
+    myCellCenter = new Vector2();
+    myBlockerPos = new ArrayList<Vector2>();
+    myBlockerRad = new FloatArray();
+  }
+
+  void build(ManiGame game, Vector2 chCenter) {
+    myChCenter.set(chCenter);
+    myCorner.set(chCenter).sub(Const.CHUNK_SIZE / 2, Const.CHUNK_SIZE / 2);
+    for (int i = 0; i < myCells.length; i++) {
+      myCells[i] = FREE;
+    }
+    myBlockerPos.clear();
+    myBlockerRad.clear();
+
+    PlanetManager pm = game.getPlanetMan();
+    ArrayList<Planet> planets = pm.getPlanets();
+    for (int i = 0, sz = planets.size(); i < sz; i++) {
+      Planet p = planets.get(i);
+      maybeAddBlocker(p.getPos(), p.getFullHeight());
+    }
+    ManiSystem sys = pm.getNearestSystem(chCenter);
+    maybeAddBlocker(sys.getPos(), SunSingleton.SUN_HOT_RAD);
+
+    ObjectManager om = game.getObjMan();
+    List<ManiObject> objs = om.getObjs();
+    for (int i = 0, sz = objs.size(); i < sz; i++) {
+      ManiObject o = objs.get(i);
+      if (!o.hasBody()) continue;
+      maybeAddBlocker(o.getPosition(), om.getRadius(o));
+    }
+    List<FarObjData> farObjs = om.getFarObjs();
+    for (int i = 0, sz = farObjs.size(); i < sz; i++) {
+      FarObj o = farObjs.get(i).fo;
+      if (!o.hasBody()) continue;
+      maybeAddBlocker(o.getPos(), o.getRadius());
+    }
+  }
+
+  /**
+   * Marks the area taken by an object, if it reaches into the chunk
+   */
+  void maybeAddBlocker(Vector2 pos, float rad) {
+    if (CHUNK_HALF_DIAG + rad <= pos.dst(myChCenter)) return;
+    myBlockerPos.add(pos);
+    myBlockerRad.add(rad);
+    for (int x = 0; x < RES; x++) {
+      for (int y = 0; y < RES; y++) {
+        int idx = x * RES + y;
+        if (myCells[idx] == BLOCKED) continue;
+        myCellCenter.set(myCorner).add((x + .5f) * CELL_SZ, (y + .5f) * CELL_SZ);
+        float dst = myCellCenter.dst(pos);
+        if (dst + CELL_HALF_DIAG < rad) myCells[idx] = BLOCKED;
+        else if (dst - CELL_HALF_DIAG < rad) myCells[idx] = MIXED;
+      }
+    }
+  }
+
+  /**
+   * @param pos a position in the chunk
+   */
+  boolean isFree(Vector2 pos) {
+    int x = (int) ManiMath.clamp((pos.x - myCorner.x) / CELL_SZ, 0, RES - 1);
+    int y = (int) ManiMath.clamp((pos.y - myCorner.y) / CELL_SZ, 0, RES - 1);
+    byte cell = myCells[x * RES + y];
+    if (cell == FREE) return true;
+    if (cell == BLOCKED) return false;
+    for (int i = 0, sz = myBlockerPos.size(); i < sz; i++) {
+      if (pos.dst(myBlockerPos.get(i)) < myBlockerRad.get(i)) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.game.farBg;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.ManiMath;
+import com.pathtomani.game.ManiCam;
+import com.pathtomani.gfx.ManiColorUtil;
+import com.pathtomani.gfx.TextureManager;
+
+/**
+ * The far background stars. All the stars are uploaded once into a static mesh, the vertex shader places them
+ * around the camera, so drawing a layer costs the same on the CPU no matter how many stars it has.
+ * Star positions are stored in view distances from the camera. Layers with a parallax factor drift slowly
+ * against the camera movement and wrap around the view.
+ */
+public class FarBgStarField {
+  private static final int STARS_PER_LAYER = 400;
+  private static final float[] LAYER_PARALLAX = {0, .01f, .03f};
+  private static final int VERTEX_SZ = 7;
+
+  private static final String VERTEX_SHADER =
+    "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+    "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+    "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+    "uniform mat4 u_projTrans;\n" +
+    "uniform vec2 u_layerShift;\n" +
+    "uniform vec2 u_rot;\n" +
+    "uniform float u_viewDist;\n" +
+    "varying vec4 v_color;\n" +
+    "varying vec2 v_texCoords;\n" +
+    "void main() {\n" +
+    "  vec2 shift = mod(" + ShaderProgram.POSITION_ATTRIBUTE + ".xy - u_layerShift + 1.0, 2.0) - 1.0;\n" +
+    "  vec2 corner = " + ShaderProgram.POSITION_ATTRIBUTE + ".zw;\n" +
+    "  corner = vec2(corner.x * u_rot.x - corner.y * u_rot.y, corner.x * u_rot.y + corner.y * u_rot.x);\n" +
+    "  v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+    "  v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+    "  gl_Position = u_projTrans * vec4((shift + corner) * u_viewDist, 0.0, 1.0);\n" +
+    "}\n";
+
+  private static final String FRAGMENT_SHADER =
+    "#ifdef GL_ES\n" +
+    "precision mediump float;\n" +
+    "#endif\n" +
+    "varying vec4 v_color;\n" +
+    "varying vec2 v_texCoords;\n" +
+    "uniform sampler2D u_texture;\n" +
+    "void main() {\n" +
+    "  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n" +
+    "}\n";
+
+  private final TextureAtlas.AtlasRegion myTex;
+  private final Mesh myMesh;
+  private final ShaderProgram myShader;
+  private final Matrix4 myMtx;
+
+  public FarBgStarField(TextureManager textureManager) {
+    myTex = textureManager.getTex("deco/bigStar", null);
+    myShader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+    if (!myShader.isCompiled()) throw new AssertionError("Could not compile star field shader: " + myShader.getLog());
+    int starCount = STARS_PER_LAYER * LAYER_PARALLAX.length;
+    myMesh = new Mesh(true, starCount * 4, starCount * 6,
+      new VertexAttribute(VertexAttributes.Usage.Position, 4, ShaderProgram.POSITION_ATTRIBUTE),
+      new VertexAttribute(VertexAttributes.Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+      new VertexAttribute(VertexAttributes.Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+    fillMesh(starCount);
+    myMtx = new Matrix4();
+  }
+
+  private void fillMesh(int starCount) {
+    float[] vertices = new float[starCount * 4 * VERTEX_SZ];
+    short[] indices = new short[starCount * 6];
+    Color tint = new Color();
+    int vi = 0;
+    for (int i = 0; i < starCount; i++) {
+      float x = ManiMath.rnd(1);
+      float y = ManiMath.rnd(1);
+      boolean small = ManiMath.test(.8f);
+      float hSz = (small ? .01f : .04f) * ManiMath.rnd(.5f, 1) / 2;
+      ManiColorUtil.fromHSB(ManiMath.rnd(0, 1), .25f, 1, .7f, tint);
+      float col = tint.toFloatBits();
+      vi = putVertex(vertices, vi, x, y, -hSz, -hSz, col, myTex.getU(), myTex.getV2());
+      vi = putVertex(vertices, vi, x, y, -hSz, hSz, col, myTex.getU(), myTex.getV());
+      vi = putVertex(vertices, vi, x, y, hSz, hSz, col, myTex.getU2(), myTex.getV());
+      vi = putVertex(vertices, vi, x, y, hSz, -hSz, col, myTex.getU2(), myTex.getV2());
+      int ii = i * 6;
+      short first = (short) (i * 4);
+      indices[ii] = first;
+      indices[ii + 1] = (short) (first + 1);
+      indices[ii + 2] = (short) (first + 2);
+      indices[ii + 3] = (short) (first + 2);
+      indices[ii + 4] = (short) (first + 3);
+      indices[ii + 5] = first;
+    }
+    myMesh.setVertices(vertices);
+    myMesh.setIndices(indices);
+  }
+
+  private static int putVertex(float[] vertices, int vi, float x, float y, float cornerX, float cornerY, float col,
+    float u, float v)
+  {
+    vertices[vi++] = x;
+    vertices[vi++] = y;
+    vertices[vi++] = cornerX;
+    vertices[vi++] = cornerY;
+    vertices[vi++] = col;
+    vertices[vi++] = u;
+    vertices[vi++] = v;
+    return vi;
+  }
+
+  /**
+   * Renders the stars with additive blending. The sprite batch must not be active.
+   */
+  public void draw(ManiCam cam) {
+    Vector2 camPos = cam.getPos();
+    float vd = cam.getViewDist();
+    float camAngle = cam.getAngle();
+    // positions are relative to the camera, so that precision isn't lost far from the origin
+    myMtx.set(cam.getMtx()).translate(camPos.x, camPos.y, 0);
+
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+    myTex.getTexture().bind(0);
+    myShader.begin();
+    myShader.setUniformMatrix("u_projTrans", myMtx);
+    myShader.setUniformi("u_texture", 0);
+    myShader.setUniformf("u_rot", ManiMath.cos(camAngle), ManiMath.sin(camAngle));
+    myShader.setUniformf("u_viewDist", vd);
+    for (int i = 0; i < LAYER_PARALLAX.length; i++) {
+      float parallax = LAYER_PARALLAX[i];
+      myShader.setUniformf("u_layerShift", camPos.x * parallax / vd % 2, camPos.y * parallax / vd % 2);
+      myMesh.render(myShader, GL20.GL_TRIANGLES, i * STARS_PER_LAYER * 6, STARS_PER_LAYER * 6);
+    }
+    myShader.end();
+  }
+
+  public void dispose() {
+    myMesh.dispose();
+    myShader.dispose();
+  }
+}
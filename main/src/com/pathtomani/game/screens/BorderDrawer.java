@@ -79,9 +79,10 @@ public void draw(UiDrawer drawer, ManiApplication cmp) {
     drawTishches(drawer, g, cam, camPos);
     MapDrawer mapDrawer = g.getMapDrawer();
     FactionManager factionManager = g.getFactionMan();
-    float heroDmgCap = hero == null ? Float.MAX_VALUE : HardnessCalc.getShipDmgCap(hero);
+    HudSnapshot snapshot = g.getHudSnapshot();
+    float heroDmgCap = snapshot.getHeroDmgCap();
 
-    List<ManiObject> objs = g.getObjMan().getObjs();
+    List<ManiObject> objs = snapshot.getNearIconObjs();
     for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
       ManiObject o = objs.get(i);
       if ((o instanceof ManiShip)) {
@@ -98,7 +99,7 @@ public void draw(UiDrawer drawer, ManiApplication cmp) {
       }
     }
 
-    List<FarShip> farShips = g.getObjMan().getFarShips();
+    List<FarShip> farShips = snapshot.getFarIconShips();
     for (int i = 0, farObjsSize = farShips.size(); i < farObjsSize; i++) {
       FarShip ship = farShips.get(i);
       Vector2 shipPos = ship.getPos();
@@ -107,7 +108,7 @@ public void draw(UiDrawer drawer, ManiApplication cmp) {
       float shipAngle = ship.getAngle();
       maybeDrawIcon(drawer, shipPos, cam, shipSize, shipAngle, mapDrawer, factionManager, hero, shipFaction, ship, heroDmgCap, ship.getHullConfig().getIcon());
     }
-    List<StarPort.MyFar> farPorts = g.getObjMan().getFarPorts();
+    List<StarPort.MyFar> farPorts = snapshot.getFarIconPorts();
     for (int i = 0, sz = farPorts.size(); i < sz; i++) {
       StarPort.MyFar sp = farPorts.get(i);
       maybeDrawIcon(drawer, sp.getPos(), cam, StarPort.SIZE, sp.getAngle(), mapDrawer, null, null, null, null, -1, mapDrawer.getStarPortTex());
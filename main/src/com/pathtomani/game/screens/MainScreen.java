@@ -509,24 +509,7 @@ public EnemyWarn(float r) {
       super(r, "Dangerous\nEnemy");
     }
     protected boolean shouldWarn(ManiGame game) {
-      ManiShip h = game.getHero();
-      if (h == null) return false;
-      float heroCap = HardnessCalc.getShipDmgCap(h);
-      List<ManiObject> objs = game.getObjMan().getObjs();
-      FactionManager fm = game.getFactionMan();
-      ManiCam cam = game.getCam();
-      float viewDist = cam.getViewDist();
-      float dps = 0;
-      for (int i = 0, sz = objs.size(); i < sz; i++) {
-        ManiObject o = objs.get(i);
-        if (!(o instanceof ManiShip)) continue;
-        ManiShip ship = (ManiShip) o;
-        if (viewDist < ship.getPosition().dst(h.getPosition())) continue;
-        if (!fm.areEnemies(h, ship)) continue;
-        dps += HardnessCalc.getShipDps(ship);
-        if (HardnessCalc.isDangerous(heroCap, dps)) return true;
-      }
-      return false;
+      return game.getHudSnapshot().isDangerous();
     }
   }
 }
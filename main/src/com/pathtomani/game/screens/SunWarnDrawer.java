@@ -16,10 +16,7 @@
 
 package com.pathtomani.game.screens;
 
-import com.badlogic.gdx.math.Vector2;
 import com.pathtomani.game.ManiGame;
-import com.pathtomani.common.Const;
-import com.pathtomani.entities.ship.ManiShip;
 
 public class SunWarnDrawer extends WarnDrawer {
 
@@ -28,10 +25,6 @@ public SunWarnDrawer(float r) {
   }
 
   public boolean shouldWarn(ManiGame game) {
-    ManiShip hero = game.getHero();
-    if (hero == null) return false;
-    Vector2 pos = hero.getPosition();
-    float toCenter = game.getPlanetMan().getNearestSystem(pos).getPos().dst(pos);
-    return toCenter < Const.SUN_RADIUS;
+    return game.getHudSnapshot().isSunNear();
   }
 }
@@ -17,12 +17,9 @@
 package com.pathtomani.game.screens;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.math.Vector2;
-import com.pathtomani.entities.planet.Planet;
 import com.pathtomani.common.Const;
+import com.pathtomani.game.HudSnapshot;
 import com.pathtomani.game.ManiGame;
-import com.pathtomani.entities.planet.PlanetManager;
-import com.pathtomani.entities.planet.ManiSystem;
 import com.pathtomani.ui.FontSize;
 import com.pathtomani.ui.UiDrawer;
 
@@ -33,21 +30,9 @@ public class ZoneNameAnnouncer {
   private String myText;
 
   public void update(ManiGame game) {
-    PlanetManager pm = game.getPlanetMan();
-    String zone = null;
-    String pref = null;
-    Vector2 camPos = game.getCam().getPos();
-    Planet p = pm.getNearestPlanet();
-    if (p.getPos().dst(camPos) < p.getFullHeight()) {
-      zone = p.getName();
-      pref = "Planet";
-    } else {
-      ManiSystem s = pm.getNearestSystem(camPos);
-      if (s.getPos().dst(camPos) < s.getRadius()) {
-        zone = s.getName();
-        pref = "System";
-      }
-    }
+    HudSnapshot snapshot = game.getHudSnapshot();
+    String zone = snapshot.getZone();
+    String pref = snapshot.getZonePref();
     boolean reset = zone != null && !zone.equals(myZone);
     myZone = zone;
     if (reset) {
@@ -19,24 +19,62 @@
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
+/**
+ * Indexes all the atlas regions by name when the atlas is loaded, so that lookups don't scan the whole atlas
+ */
 class AtlasTextureProvider implements TextureProvider {
   private final TextureAtlas myAtlas;
+  private final TextureStreamer myStreamer;
+  private final HashMap<String, TextureAtlas.AtlasRegion> myRegions;
+  private final HashMap<String, ArrayList<TextureAtlas.AtlasRegion>> myPacks;
+
+  AtlasTextureProvider(FileHandle atlasFile, long texBudget) {
+    // the pages get textures that load their pixels when first drawn, the atlas only creates the regions
+    myStreamer = new TextureStreamer(texBudget);
+    TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), true);
+    ArrayList<StreamedTexture> pages = new ArrayList<StreamedTexture>();
+    for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+      StreamedTexture tex = new StreamedTexture(page.textureFile, page.format, page.useMipMaps, myStreamer);
+      page.texture = tex;
+      pages.add(tex);
+    }
+    myAtlas = new TextureAtlas(data);
+    for (StreamedTexture page : pages) {
+      myStreamer.add(page);
+    }
+    myRegions = new HashMap<String, TextureAtlas.AtlasRegion>();
+    myPacks = new HashMap<String, ArrayList<TextureAtlas.AtlasRegion>>();
+    Array<TextureAtlas.AtlasRegion> regions = myAtlas.getRegions();
+    for (int i = 0, sz = regions.size; i < sz; i++) {
+      TextureAtlas.AtlasRegion region = regions.get(i);
+      // same as findRegion, the first region with the name wins
+      if (!myRegions.containsKey(region.name)) myRegions.put(region.name, region);
+      ArrayList<TextureAtlas.AtlasRegion> pack = myPacks.get(region.name);
+      if (pack == null) {
+        pack = new ArrayList<TextureAtlas.AtlasRegion>();
+        myPacks.put(region.name, pack);
+      }
+      pack.add(region);
+    }
+  }
 
-  AtlasTextureProvider(FileHandle atlasFile) {
-    myAtlas = new TextureAtlas(atlasFile, true);
+  TextureStreamer getStreamer() {
+    return myStreamer;
   }
 
   @Override
   public TextureAtlas.AtlasRegion getTexture(FileHandle textureFile) {
-    return myAtlas.findRegion(textureFile.path());
+    return myRegions.get(textureFile.path());
   }
 
-    @Override
+  @Override
   public TextureAtlas.AtlasRegion getTex(String fullName, FileHandle configFile) {
-    return myAtlas.findRegion(fullName);
+    return myRegions.get(fullName);
   }
 
   @Override
@@ -51,11 +89,8 @@ public Sprite createSprite(String name) {
 
   @Override
   public ArrayList<TextureAtlas.AtlasRegion> getTexs(String name, FileHandle configFile) {
-    ArrayList<TextureAtlas.AtlasRegion> r = new ArrayList<TextureAtlas.AtlasRegion>();
-    for (TextureAtlas.AtlasRegion rr : myAtlas.findRegions(name)) {
-      r.add(rr);
-    }
-    return r;
+    ArrayList<TextureAtlas.AtlasRegion> pack = myPacks.get(name);
+    return pack == null ? new ArrayList<TextureAtlas.AtlasRegion>() : new ArrayList<TextureAtlas.AtlasRegion>(pack);
   }
 
   @Override
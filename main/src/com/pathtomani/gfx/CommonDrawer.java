@@ -37,7 +37,13 @@ public class CommonDrawer {
   private final BitmapFont myFont;
   private final float myOrigFontHeight;
   private final TextureChecker myTextureChecker;
-  private final GlyphLayout layout;
+  private final TextCache myTextCache;
+  private final RingDrawer myRingDrawer;
+  private int myFlushes;
+  private int myBlendSwitches;
+  private int myFrameFlushes;
+  private int myFrameBlendSwitches;
+  private int myFrameTextLayouts;
 
   public CommonDrawer() {
     myTextureChecker = new TextureChecker();
@@ -52,7 +58,8 @@ public CommonDrawer() {
 
     myOrigFontHeight = myFont.getXHeight();
 
-    layout = new GlyphLayout();
+    myTextCache = new TextCache(myFont);
+    myRingDrawer = new RingDrawer();
   }
 
   public void setMtx(Matrix4 mtx) {
@@ -65,25 +72,34 @@ public void begin() {
 
   public void end() {
     myTextureChecker.onEnd();
+    endBatch();
+    myFrameFlushes = myFlushes;
+    myFrameBlendSwitches = myBlendSwitches;
+    myFrameTextLayouts = myTextCache.pollLayouts();
+    myFlushes = 0;
+    myBlendSwitches = 0;
+  }
+
+  private void endBatch() {
     mySpriteBatch.end();
+    // the render calls are reset by begin(), so they're collected each time the batch ends
+    myFlushes += mySpriteBatch.renderCalls;
+  }
+
+  public void suspendBatch() {
+    endBatch();
+    myTextureChecker.onSuspend();
+  }
+
+  public void resumeBatch() {
+    mySpriteBatch.begin();
   }
 
   public void drawString(String s, float x, float y, float fontSize, boolean centered, Color col) {
     if (s == null) return;
     myTextureChecker.onString(myFont.getRegion().getTexture());
-    myFont.setColor(col);
     myFont.getData().setScale(fontSize / myOrigFontHeight);
-    if (!centered) {
-      myFont.draw(mySpriteBatch, s, x, y);
-      return;
-    }
-
-    // http://www.badlogicgames.com/wordpress/?p=3658
-    layout.reset();
-    layout.setText(myFont, s);
-    x -= layout.width / 2;
-    y -= layout.height / 2;
-    myFont.draw(mySpriteBatch, layout, x, y);
+    myTextCache.draw(mySpriteBatch, s, x, y, centered, col);
   }
 
 
@@ -107,21 +123,15 @@ public void draw(TextureRegion tex, Rectangle rect, Color tint) {
     draw(tex, rect.width, rect.height, (float) 0, (float) 0, rect.x, rect.y, (float) 0, tint);
   }
 
+  /**
+   * Draws a ring from radius to radius + width in a single draw call. The sprite batch is flushed before it
+   */
   public void drawCircle(TextureRegion tex, Vector2 center, float radius, Color col, float width, float vh) {
     float relRad = radius / vh;
-    int pointCount = (int) (160 * relRad);
-    Vector2 pos = ManiMath.getVec();
-    if (pointCount < 8) pointCount = 8;
-    float lineLen = radius * ManiMath.PI * 2 / pointCount;
-    float angleStep = 360f / pointCount;
-    float angleStepH = angleStep / 2;
-    for (int i = 0; i < pointCount; i++) {
-      float angle = angleStep * i;
-      ManiMath.fromAl(pos, angle, radius);
-      pos.add(center);
-      draw(tex, width, lineLen, (float) 0, (float) 0, pos.x, pos.y, angle + angleStepH, col);
-    }
-    ManiMath.free(pos);
+    int segCount = (int) (160 * relRad);
+    suspendBatch();
+    myRingDrawer.draw(mySpriteBatch.getProjectionMatrix(), tex, center, radius, width, col, segCount);
+    resumeBatch();
   }
 
   public void drawLine(TextureRegion tex, float x, float y, float angle, float len, Color col, float width) {
@@ -138,6 +148,7 @@ public void drawLine(TextureRegion tex, Vector2 p1, Vector2 p2, Color col, float
   public void dispose() {
     mySpriteBatch.dispose();
     myFont.dispose();
+    myRingDrawer.dispose();
   }
 
   public SpriteBatch getBatch(Texture texture, TextureAtlas.AtlasRegion tex) {
@@ -146,7 +157,30 @@ public SpriteBatch getBatch(Texture texture, TextureAtlas.AtlasRegion tex) {
   }
 
   public void setAdditive(boolean additive) {
+    myBlendSwitches++;
     int dstFunc = additive ? GL20.GL_ONE : GL20.GL_ONE_MINUS_SRC_ALPHA;
     mySpriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, dstFunc);
   }
+
+  /**
+   * @return the sprite batch flushes during the latest complete frame
+   */
+  public int getFrameFlushes() {
+    return myFrameFlushes;
+  }
+
+  public int getFrameTexSwitches() {
+    return myTextureChecker.getFrameSwitches();
+  }
+
+  public int getFrameBlendSwitches() {
+    return myFrameBlendSwitches;
+  }
+
+  /**
+   * @return how many strings had to be laid out during the latest complete frame, the rest came from the text cache
+   */
+  public int getFrameTextLayouts() {
+    return myFrameTextLayouts;
+  }
 }
@@ -24,17 +24,32 @@
 import com.pathtomani.game.DebugOptions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 public class DevTextureProvider implements TextureProvider {
 
   public static final String PREF = "imgSrcs/";
   public static final String SUFF = ".png";
   private final Texture myMissingTex;
+  private final HashMap<String, Texture> myTextures;
 
   DevTextureProvider() {
     //FileHandle missingFile = FileManager.getInstance().getStaticFile("imgSrcs/smallGameObjs/missing.png");
     //myMissingTex = new Texture(missingFile);
     myMissingTex = null;
+    myTextures = new HashMap<String, Texture>();
+  }
+
+  /**
+   * Each image file is loaded once, the regions created from it share the texture
+   */
+  private Texture getTexture(String path, FileHandle fh) {
+    Texture tex = myTextures.get(path);
+    if (tex == null) {
+      tex = new Texture(fh);
+      myTextures.put(path, tex);
+    }
+    return tex;
   }
 
   @Override
@@ -51,7 +66,7 @@ public TextureAtlas.AtlasRegion getTex(String fullName, FileHandle configFile) {
   private TextureAtlas.AtlasRegion newTex(FileHandle fh, String name, int idx, FileHandle configFile) {
     Texture tex;
     if (fh.exists()) {
-      tex = new Texture(fh);
+      tex = getTexture(fh.path(), fh);
     } else {
       tex = myMissingTex;
       String msg = "texture not found: " + fh;
@@ -63,13 +78,16 @@ private TextureAtlas.AtlasRegion newTex(FileHandle fh, String name, int idx, Fil
 
   @Override
   public void dispose() {
-    // forget it
+    for (Texture tex : myTextures.values()) {
+      tex.dispose();
+    }
+    myTextures.clear();
   }
 
   @Override
   public Sprite createSprite(String name) {
-    Texture tex = new Texture(FileManager.getInstance().getStaticFile(PREF + name + SUFF));
-    return new Sprite(tex);
+    FileHandle fh = FileManager.getInstance().getStaticFile(PREF + name + SUFF);
+    return new Sprite(getTexture(fh.path(), fh));
   }
 
   @Override
@@ -18,8 +18,8 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 
 import java.util.HashMap;
@@ -33,9 +33,8 @@ public class GameColors {
     private final HashMap<String, Color> colors;
 
     public GameColors() {
-        JsonReader r = new JsonReader();
         FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("colors.json");
-        JsonValue node = r.parse(configFile);
+        JsonValue node = ContentCache.parseJson(configFile);
         colors = new HashMap<String, Color>();
 
         for (JsonValue colVal : node) {
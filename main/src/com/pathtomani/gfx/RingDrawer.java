@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.gfx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntMap;
+import com.pathtomani.common.ManiMath;
+
+/**
+ * Draws circles as a single triangle strip. A unit ring mesh is built once per segment count (rounded up to a power of two),
+ * the vertex shader scales it to the requested center, radius and width.
+ */
+class RingDrawer {
+  public static final int MIN_SEGMENTS = 8;
+  public static final int MAX_SEGMENTS = 2048;
+
+  private static final String VERTEX_SHADER =
+    "attribute vec2 a_position;\n" +
+    "attribute vec2 a_texCoord0;\n" +
+    "uniform mat4 u_projTrans;\n" +
+    "uniform vec2 u_center;\n" +
+    "uniform float u_radius;\n" +
+    "uniform float u_width;\n" +
+    "uniform vec4 u_region;\n" +
+    "varying vec2 v_texCoords;\n" +
+    "void main() {\n" +
+    "  v_texCoords = u_region.xy + a_texCoord0 * u_region.zw;\n" +
+    "  vec2 pos = u_center + a_position * (u_radius + a_texCoord0.x * u_width);\n" +
+    "  gl_Position = u_projTrans * vec4(pos, 0.0, 1.0);\n" +
+    "}\n";
+
+  private static final String FRAGMENT_SHADER =
+    "#ifdef GL_ES\n" +
+    "precision mediump float;\n" +
+    "#endif\n" +
+    "varying vec2 v_texCoords;\n" +
+    "uniform sampler2D u_texture;\n" +
+    "uniform vec4 u_color;\n" +
+    "void main() {\n" +
+    "  gl_FragColor = u_color * texture2D(u_texture, v_texCoords);\n" +
+    "}\n";
+
+  private final ShaderProgram myShader;
+  private final IntMap<Mesh> myMeshes;
+
+  RingDrawer() {
+    myShader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+    if (!myShader.isCompiled()) throw new AssertionError("Could not compile ring shader: " + myShader.getLog());
+    myMeshes = new IntMap<Mesh>();
+  }
+
+  /**
+   * Draws a ring from radius to radius + width. The texture is stretched across the width and mirrored along the circle.
+   * Must be called while no batch is active.
+   */
+  public void draw(Matrix4 projection, TextureRegion tex, Vector2 center, float radius, float width, Color col,
+    int segCount)
+  {
+    segCount = MathUtils.nextPowerOfTwo((int) ManiMath.clamp(segCount, MIN_SEGMENTS, MAX_SEGMENTS));
+    Mesh mesh = getMesh(segCount);
+
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    tex.getTexture().bind(0);
+    myShader.begin();
+    myShader.setUniformMatrix("u_projTrans", projection);
+    myShader.setUniformi("u_texture", 0);
+    myShader.setUniformf("u_center", center);
+    myShader.setUniformf("u_radius", radius);
+    myShader.setUniformf("u_width", width);
+    myShader.setUniformf("u_region", tex.getU(), tex.getV(), tex.getU2() - tex.getU(), tex.getV2() - tex.getV());
+    myShader.setUniformf("u_color", col);
+    mesh.render(myShader, GL20.GL_TRIANGLE_STRIP);
+    myShader.end();
+  }
+
+  private Mesh getMesh(int segCount) {
+    Mesh mesh = myMeshes.get(segCount);
+    if (mesh != null) return mesh;
+    int vertCount = (segCount + 1) * 2;
+    mesh = new Mesh(true, vertCount, 0,
+      new VertexAttribute(VertexAttributes.Usage.Position, 2, "a_position"),
+      new VertexAttribute(VertexAttributes.Usage.TextureCoordinates, 2, "a_texCoord0"));
+    float[] vertices = new float[vertCount * 4];
+    float angleStep = 360f / segCount;
+    int vi = 0;
+    for (int i = 0; i <= segCount; i++) {
+      float cos = ManiMath.cos(angleStep * i);
+      float sin = ManiMath.sin(angleStep * i);
+      float v = i % 2;
+      for (int side = 0; side < 2; side++) {
+        vertices[vi++] = cos;
+        vertices[vi++] = sin;
+        vertices[vi++] = side;
+        vertices[vi++] = v;
+      }
+    }
+    mesh.setVertices(vertices);
+    myMeshes.put(segCount, mesh);
+    return mesh;
+  }
+
+  public void dispose() {
+    for (Mesh mesh : myMeshes.values()) {
+      mesh.dispose();
+    }
+    myMeshes.clear();
+    myShader.dispose();
+  }
+}
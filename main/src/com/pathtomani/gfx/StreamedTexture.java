@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.gfx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.MipMapGenerator;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * An atlas page whose pixels are uploaded only when it's first bound for drawing and can be dropped from the GPU
+ * again by the {@link TextureStreamer}. The size is read from the PNG header, so regions can be created
+ * before the image is loaded.
+ */
+class StreamedTexture extends Texture {
+  private final PageData myData;
+  private final TextureStreamer myStreamer;
+  private boolean myReady;
+  private long myLastUse;
+
+  StreamedTexture(FileHandle file, Pixmap.Format format, boolean useMipMaps, TextureStreamer streamer) {
+    super(new PageData(file, format, useMipMaps));
+    myData = (PageData) getTextureData();
+    myStreamer = streamer;
+  }
+
+  /**
+   * Until this is called, binding doesn't load the pixels, so that the atlas can set filters and wraps on creation
+   */
+  void setReady() {
+    myReady = true;
+  }
+
+  @Override
+  public void bind() {
+    onBind();
+    super.bind();
+  }
+
+  @Override
+  public void bind(int unit) {
+    onBind();
+    super.bind(unit);
+  }
+
+  private void onBind() {
+    if (!myReady) return;
+    myLastUse = myStreamer.getFrame();
+    if (myData.resident) return;
+    myData.resident = true;
+    // load() binds the texture again, this time it's already resident
+    load(myData);
+    myStreamer.onLoad(this);
+  }
+
+  void evict() {
+    if (!myData.resident) return;
+    myData.resident = false;
+    delete();
+    glHandle = Gdx.gl.glGenTexture();
+  }
+
+  boolean isResident() {
+    return myData.resident;
+  }
+
+  long getLastUse() {
+    return myLastUse;
+  }
+
+  /**
+   * @return the estimated video memory taken by the page when resident, in bytes. Assumes 4 bytes per pixel.
+   */
+  long getBytes() {
+    long bytes = 4L * getWidth() * getHeight();
+    return myData.useMipMaps() ? bytes * 4 / 3 : bytes;
+  }
+
+  private static class PageData implements TextureData {
+    private final FileHandle myFile;
+    private final Pixmap.Format myFormat;
+    private final boolean myUseMipMaps;
+    private final int myWidth;
+    private final int myHeight;
+    public boolean resident;
+
+    PageData(FileHandle file, Pixmap.Format format, boolean useMipMaps) {
+      myFile = file;
+      myFormat = format;
+      myUseMipMaps = useMipMaps;
+      DataInputStream in = new DataInputStream(file.read());
+      try {
+        // the signature and the IHDR chunk header come before the size
+        in.readFully(new byte[16]);
+        myWidth = in.readInt();
+        myHeight = in.readInt();
+      } catch (IOException e) {
+        throw new GdxRuntimeException("Could not read the size of " + file, e);
+      } finally {
+        try {
+          in.close();
+        } catch (IOException ignored) {
+        }
+      }
+    }
+
+    @Override
+    public TextureDataType getType() {
+      return TextureDataType.Custom;
+    }
+
+    @Override
+    public boolean isPrepared() {
+      return true;
+    }
+
+    @Override
+    public void prepare() {
+    }
+
+    @Override
+    public Pixmap consumePixmap() {
+      throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
+    }
+
+    @Override
+    public boolean disposePixmap() {
+      return false;
+    }
+
+    @Override
+    public void consumeCustomData(int target) {
+      if (!resident) return;
+      Pixmap pixmap = new Pixmap(myFile);
+      if (pixmap.getFormat() != myFormat) {
+        Pixmap converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), myFormat);
+        // the blending is global for all the pixmaps in this version of gdx
+        Pixmap.Blending blending = Pixmap.getBlending();
+        Pixmap.setBlending(Pixmap.Blending.None);
+        try {
+          converted.drawPixmap(pixmap, 0, 0);
+        } finally {
+          Pixmap.setBlending(blending);
+        }
+        pixmap.dispose();
+        pixmap = converted;
+      }
+      Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+      if (myUseMipMaps) {
+        MipMapGenerator.generateMipMap(target, pixmap, pixmap.getWidth(), pixmap.getHeight());
+      } else {
+        Gdx.gl.glTexImage2D(target, 0, pixmap.getGLInternalFormat(), pixmap.getWidth(), pixmap.getHeight(), 0,
+          pixmap.getGLFormat(), pixmap.getGLType(), pixmap.getPixels());
+      }
+      pixmap.dispose();
+    }
+
+    @Override
+    public int getWidth() {
+      return myWidth;
+    }
+
+    @Override
+    public int getHeight() {
+      return myHeight;
+    }
+
+    @Override
+    public Pixmap.Format getFormat() {
+      return myFormat;
+    }
+
+    @Override
+    public boolean useMipMaps() {
+      return myUseMipMaps;
+    }
+
+    @Override
+    public boolean isManaged() {
+      return true;
+    }
+  }
+}
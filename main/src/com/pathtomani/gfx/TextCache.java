@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.gfx;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps laid out text between frames, keyed by the string, the font scale and the alignment.
+ * A color change only rewrites the vertex colors and a move only translates the vertices, the text is laid out again
+ * only when the string itself changes. The least recently drawn entries are evicted and their font caches reused.
+ */
+class TextCache {
+  public static final int MAX_ENTRIES = 256;
+
+  private final BitmapFont myFont;
+  private final LinkedHashMap<Key, Entry> myEntries;
+  private final ArrayList<BitmapFontCache> myFreeCaches;
+  private final Key myProbe;
+  private int myLayouts;
+
+  TextCache(BitmapFont font) {
+    myFont = font;
+    myFreeCaches = new ArrayList<BitmapFontCache>();
+    myProbe = new Key();
+    myEntries = new LinkedHashMap<Key, Entry>(MAX_ENTRIES, .75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        if (size() <= MAX_ENTRIES) return false;
+        myFreeCaches.add(eldest.getValue().cache);
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Draws the text with the font's current scale.
+   */
+  public void draw(Batch batch, String s, float x, float y, boolean centered, Color col) {
+    float scale = myFont.getData().scaleX;
+    myProbe.set(s, scale, centered);
+    Entry e = myEntries.get(myProbe);
+    if (e == null) {
+      e = layout(s, centered, col);
+      myEntries.put(new Key().set(s, scale, centered), e);
+    } else if (!e.col.equals(col)) {
+      e.cache.setColors(col);
+      e.col.set(col);
+    }
+    e.cache.setPosition(x - e.offsetX, y - e.offsetY);
+    e.cache.draw(batch);
+  }
+
+  private Entry layout(String s, boolean centered, Color col) {
+    myLayouts++;
+    BitmapFontCache cache;
+    if (myFreeCaches.isEmpty()) {
+      cache = myFont.newFontCache();
+    } else {
+      cache = myFreeCaches.remove(myFreeCaches.size() - 1);
+    }
+    cache.setColor(col);
+    GlyphLayout layout = cache.setText(s, 0, 0);
+    Entry e = new Entry(cache, col);
+    if (centered) {
+      // http://www.badlogicgames.com/wordpress/?p=3658
+      e.offsetX = layout.width / 2;
+      e.offsetY = layout.height / 2;
+    }
+    return e;
+  }
+
+  /**
+   * @return how many strings were laid out since the previous call
+   */
+  public int pollLayouts() {
+    int res = myLayouts;
+    myLayouts = 0;
+    return res;
+  }
+
+  private static class Entry {
+    public final BitmapFontCache cache;
+    public final Color col;
+    public float offsetX;
+    public float offsetY;
+
+    public Entry(BitmapFontCache cache, Color col) {
+      this.cache = cache;
+      this.col = new Color(col);
+    }
+  }
+
+  private static class Key {
+    private String myStr;
+    private float myScale;
+    private boolean myCentered;
+
+    public Key set(String str, float scale, boolean centered) {
+      myStr = str;
+      myScale = scale;
+      myCentered = centered;
+      return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) return false;
+      Key k = (Key) o;
+      return myScale == k.myScale && myCentered == k.myCentered && myStr.equals(k.myStr);
+    }
+
+    @Override
+    public int hashCode() {
+      int res = myStr.hashCode();
+      res = 31 * res + Float.floatToIntBits(myScale);
+      return 31 * res + (myCentered ? 1 : 0);
+    }
+  }
+}
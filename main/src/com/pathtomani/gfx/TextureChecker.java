@@ -19,12 +19,13 @@
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 
-import java.util.ArrayList;
-
+/**
+ * Counts how many times the sprite batch switches textures during a frame. Every switch flushes the batch and binds a texture.
+ */
 public class TextureChecker {
-  private final ArrayList<String> myCollected = new ArrayList<String>();
   private Texture myCurr = null;
-  private int myAwait;
+  private int mySwitches;
+  private int myFrameSwitches;
 
   public void onString(Texture texture) {
     evt(texture, "text");
@@ -32,9 +33,8 @@ public void onString(Texture texture) {
 
   private void evt(Texture texture, String name) {
     if (texture == null || name == null || name.isEmpty()) throw new AssertionError("null texture or no texture name");
-    if (myAwait > 0) return;
     if (texture.equals(myCurr)) return;
-    myCollected.add(name);
+    mySwitches++;
     myCurr = texture;
   }
 
@@ -46,16 +46,23 @@ public void onSprite(Texture texture, TextureAtlas.AtlasRegion tex) {
     evt(texture, tex.name);
   }
 
+  /**
+   * Called when something else than the sprite batch has bound a texture
+   */
+  public void onSuspend() {
+    myCurr = null;
+  }
+
   public void onEnd() {
-    if (myAwait == 0) {
-//      System.out.println("\n\n\n" + myCollected);
-      myCollected.clear();
-      myCurr = null;
-      myAwait = 120;
-      return;
-    }
-    if (myAwait > 0) {
-      myAwait--;
-    }
+    myFrameSwitches = mySwitches;
+    mySwitches = 0;
+    myCurr = null;
+  }
+
+  /**
+   * @return the texture switches during the latest complete frame
+   */
+  public int getFrameSwitches() {
+    return myFrameSwitches;
   }
 }
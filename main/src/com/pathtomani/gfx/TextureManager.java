@@ -20,6 +20,7 @@
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.pathtomani.common.ManiMath;
+import com.pathtomani.game.DebugOptions;
 import com.pathtomani.managers.files.FileManager;
 
 import java.util.ArrayList;
@@ -34,11 +35,16 @@ public class TextureManager {
   private final Map<TextureAtlas.AtlasRegion,TextureAtlas.AtlasRegion> myFlipped;
   private final Map<String, ArrayList<TextureAtlas.AtlasRegion>> myPacks;
   private final TextureProvider textureProvider, textureProviderStaticFiles;
+  private final TextureStreamer myStreamer;
+  private int myLookups;
+  private int myProviderLookups;
 
   public TextureManager() {
     FileHandle atlasFile = FileManager.getInstance().getImagesDirectory().child("sol.atlas");
     textureProviderStaticFiles = new DevTextureProvider();
-    textureProvider = new AtlasTextureProvider(atlasFile);
+    AtlasTextureProvider atlasProvider = new AtlasTextureProvider(atlasFile, DebugOptions.TEX_BUDGET_MB * 1024L * 1024);
+    myStreamer = atlasProvider.getStreamer();
+    textureProvider = atlasProvider;
     myPacks = new HashMap<String, ArrayList<TextureAtlas.AtlasRegion>>();
     textureMap = new HashMap<String, TextureAtlas.AtlasRegion>();
     myFlipped = new HashMap<TextureAtlas.AtlasRegion, TextureAtlas.AtlasRegion>();
@@ -68,8 +74,10 @@ public TextureAtlas.AtlasRegion getTex(String name, boolean flipped, FileHandle
    */
   @Deprecated
   public TextureAtlas.AtlasRegion getTex(String fullName, FileHandle configFile) {
+    myLookups++;
     TextureAtlas.AtlasRegion r = textureMap.get(fullName);
     if (r != null) return r;
+    myProviderLookups++;
     r = textureProvider.getTex(fullName, configFile);
     if (r == null) throw new AssertionError("texture not found: " + fullName);
     textureMap.put(fullName, r);
@@ -77,28 +85,31 @@ public TextureAtlas.AtlasRegion getTex(String fullName, FileHandle configFile) {
   }
 
   public TextureAtlas.AtlasRegion getTexture(FileHandle textureFile) {
-    TextureAtlas.AtlasRegion result = textureMap.get(textureFile);
-
-    if (result == null) {
-      result = textureProvider.getTexture(textureFile);
-      textureMap.put(textureFile.path(), result);
-    }
-
+    myLookups++;
+    // file handles are created anew by the config code, their paths are the keys
+    String path = textureFile.path();
+    TextureAtlas.AtlasRegion result = textureMap.get(path);
+    if (result != null) return result;
+
+    myProviderLookups++;
+    result = textureProvider.getTexture(textureFile);
     if (result == null) {
       result = textureProviderStaticFiles.getTexture(textureFile);
-      textureMap.put(textureFile.path(), result);
     }
 
     if (result == null) {
-        throw new AssertionError("texture not found: " + textureFile.path());
+        throw new AssertionError("texture not found: " + path);
     }
 
+    textureMap.put(path, result);
     return result;
   }
 
   public ArrayList<TextureAtlas.AtlasRegion> getPack(String name, FileHandle configFile) {
+    myLookups++;
     ArrayList<TextureAtlas.AtlasRegion> r = myPacks.get(name);
     if (r != null) return r;
+    myProviderLookups++;
     r = textureProvider.getTexs(name, configFile);
     if (r.size() == 0) throw new AssertionError("textures not found: " + name);
     myPacks.put(name, r);
@@ -121,5 +132,42 @@ public Sprite createSprite(String name) {
 
   public void dispose() {
     textureProvider.dispose();
+    textureProviderStaticFiles.dispose();
+  }
+
+  /**
+   * Call once after each drawn frame, atlas pages used during the current frame are not evicted
+   */
+  public void onFrameEnd() {
+    myStreamer.onFrameEnd();
+  }
+
+  public int getResidentMb() {
+    return (int) (myStreamer.getResidentBytes() / 1024 / 1024);
+  }
+
+  /**
+   * @return how many times an atlas page was loaded to the GPU so far
+   */
+  public int getPageLoads() {
+    return myStreamer.getLoads();
+  }
+
+  public int getPageEvictions() {
+    return myStreamer.getEvictions();
+  }
+
+  /**
+   * @return how many textures and packs were requested so far
+   */
+  public int getLookups() {
+    return myLookups;
+  }
+
+  /**
+   * @return how many of the lookups were not cached yet and went to the texture provider
+   */
+  public int getProviderLookups() {
+    return myProviderLookups;
   }
 }
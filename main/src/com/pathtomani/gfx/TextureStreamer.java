@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.gfx;
+
+import java.util.ArrayList;
+
+/**
+ * Keeps the resident {@link StreamedTexture} pages under a video memory budget. When a page is loaded and the budget
+ * is exceeded, the least recently used pages are evicted. Pages used during the current frame are never evicted,
+ * so if a single frame needs more than the budget, the budget is exceeded rather than pages reloaded within the frame.
+ */
+class TextureStreamer {
+  private final ArrayList<StreamedTexture> myPages;
+  private final long myBudget;
+  private long myFrame;
+  private long myResidentBytes;
+  private int myLoads;
+  private int myEvictions;
+
+  /**
+   * @param budget in bytes, 0 for no limit
+   */
+  TextureStreamer(long budget) {
+    myBudget = budget;
+    myPages = new ArrayList<StreamedTexture>();
+  }
+
+  void add(StreamedTexture page) {
+    myPages.add(page);
+    page.setReady();
+  }
+
+  long getFrame() {
+    return myFrame;
+  }
+
+  public void onFrameEnd() {
+    myFrame++;
+  }
+
+  void onLoad(StreamedTexture page) {
+    myLoads++;
+    myResidentBytes += page.getBytes();
+    if (myBudget <= 0) return;
+    while (myBudget < myResidentBytes) {
+      StreamedTexture coldest = null;
+      for (int i = 0, sz = myPages.size(); i < sz; i++) {
+        StreamedTexture p = myPages.get(i);
+        if (!p.isResident() || p.getLastUse() == myFrame) continue;
+        if (coldest == null || p.getLastUse() < coldest.getLastUse()) coldest = p;
+      }
+      if (coldest == null) return;
+      coldest.evict();
+      myEvictions++;
+      myResidentBytes -= coldest.getBytes();
+    }
+  }
+
+  public long getResidentBytes() {
+    return myResidentBytes;
+  }
+
+  public int getLoads() {
+    return myLoads;
+  }
+
+  public int getEvictions() {
+    return myEvictions;
+  }
+}
@@ -19,6 +19,7 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.game.FarObj;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.ManiObject;
@@ -29,6 +30,7 @@
 import java.util.List;
 
 public class LightObject implements ManiObject {
+  private static final int ALLOC_COUNTER = AllocTracker.register("LightObject");
 
   private final LightSrc myLightSrc;
   private final ArrayList<Dra> myDras;
@@ -36,11 +38,12 @@ public class LightObject implements ManiObject {
 
   // consumes pos
   public LightObject(ManiGame game, float sz, boolean hasHalo, float intensity, Vector2 pos, float fadeTime, Color col) {
+    AllocTracker.count(ALLOC_COUNTER);
     myPos = pos;
-    myLightSrc = new LightSrc(game, sz, hasHalo, intensity, new Vector2(), col);
+    myLightSrc = new LightSrc(game, sz, hasHalo, intensity, AllocTracker.newVec(), col);
     myLightSrc.setFadeTime(fadeTime);
     myLightSrc.setWorking();
-    myDras = new ArrayList<Dra>();
+    myDras = AllocTracker.newList();
     myLightSrc.collectDras(myDras);
   }
 
@@ -19,6 +19,7 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.managers.dra.Dra;
 import com.pathtomani.gfx.ManiColorUtil;
 import com.pathtomani.common.ManiMath;
@@ -45,12 +46,12 @@ public class LightSrc {
   public LightSrc(ManiGame game, float sz, boolean hasHalo, float intensity, Vector2 relPos, Color col) {
     TextureAtlas.AtlasRegion tex = game.getTexMan().getTex("smallGameObjs/particles/lightCircle", null);
     mySz = sz;
-    myCircle = new RectSprite(tex, 0, 0, 0, new Vector2(relPos), DraLevel.PART_BG_0, 0, 0, col, true);
+    myCircle = new RectSprite(tex, 0, 0, 0, AllocTracker.newVec(relPos), DraLevel.PART_BG_0, 0, 0, col, true);
     tex = game.getTexMan().getTex("smallGameObjs/particles/lightHalo", null);
     if (hasHalo) {
-      Color haloCol = new Color(col);
+      Color haloCol = AllocTracker.newColor(col);
       ManiColorUtil.changeBrightness(haloCol, .8f);
-      myHalo = new RectSprite(tex, 0, 0, 0, new Vector2(relPos), DraLevel.PART_FG_0, 0, 0, haloCol, true);
+      myHalo = new RectSprite(tex, 0, 0, 0, AllocTracker.newVec(relPos), DraLevel.PART_FG_0, 0, 0, haloCol, true);
     } else {
       myHalo = null;
     }
@@ -23,10 +23,12 @@
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.BoundingBox;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.GameDrawer;
 import com.pathtomani.game.ManiGame;
 import com.pathtomani.game.ManiObject;
+import com.pathtomani.game.TickTimes;
 import com.pathtomani.managers.dra.Dra;
 import com.pathtomani.entities.planet.Planet;
 import com.pathtomani.managers.dra.DraLevel;
@@ -36,6 +38,7 @@ public class ParticleSrc implements Dra {
   public static final float MAX_TIME_BETWEEN_POS_CHANGE = .25f;
   private static final float JUMP_SZ_THRESH = .7f;
   public static final float MAX_BB_RECALC_AWAIT = .5f;
+  private static final int ALLOC_COUNTER = AllocTracker.register("ParticleSrc");
   private final ParticleEmitter myEmitter;
   private final ParticleEmitter.ScaledNumericValue myOrigSpdAngle;
   private final ParticleEmitter.ScaledNumericValue myOrigRot;
@@ -57,12 +60,13 @@ public class ParticleSrc implements Dra {
   public ParticleSrc(EffectConfig config, float sz, DraLevel draLevel, Vector2 relPos, boolean inheritsSpd,
                      ManiGame game, Vector2 basePos, Vector2 baseSpd, float relAngle)
   {
+    AllocTracker.count(ALLOC_COUNTER);
     myConfig = config;
     myEmitter = myConfig.effectType.newEmitter();
     myDraLevel = draLevel;
-    myRelPos = new Vector2(relPos);
-    myOrigRelPos = new Vector2(relPos);
-    myPos = new Vector2();
+    myRelPos = AllocTracker.newVec(relPos);
+    myOrigRelPos = AllocTracker.newVec(relPos);
+    myPos = AllocTracker.newVec();
     myRelAngle = relAngle;
 
     if (sz <= 0) sz = config.sz;
@@ -142,6 +146,8 @@ public boolean isComplete() {
   }
 
   public void update(ManiGame game, ManiObject o) {
+    TickTimes tickTimes = game.getTickTimes();
+    tickTimes.begin(TickTimes.Stage.PARTICLES);
     maybeSwitchRelPos(game);
     Vector2 basePos = o.getPosition();
     float baseAngle = o.getAngle();
@@ -159,6 +165,7 @@ public void update(ManiGame game, ManiObject o) {
       myBbRecalcAwait = MAX_BB_RECALC_AWAIT;
       myEmitter.getBoundingBox();
     }
+    tickTimes.end(TickTimes.Stage.PARTICLES);
   }
 
   private void updateSpd(ManiGame game, Vector2 baseSpd, Vector2 basePos) {
@@ -215,7 +222,11 @@ private void setSpd(Vector2 spd) {
   }
 
   @Override
-  public void prepare(ManiObject o) {
+  public void prepare(ManiObject o, Vector2 basePos, float baseAngle) {
+    // drawn at the interpolated pose of the object, update() sets the pose of the latest tick again before emitting
+    ManiMath.toWorld(myPos, myRelPos, baseAngle, basePos, false);
+    myEmitter.setPosition(myPos.x, myPos.y);
+    setAngle(baseAngle);
   }
 
   @Override
@@ -267,6 +278,11 @@ public TextureAtlas.AtlasRegion getTex() {
     return myConfig.tex;
   }
 
+  @Override
+  public boolean isAdditive() {
+    return myConfig.effectType.additive;
+  }
+
   public boolean isContinuous() {
     return myConfig.effectType.continuous;
   }
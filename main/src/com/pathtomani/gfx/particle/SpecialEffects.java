@@ -18,8 +18,8 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.gfx.GameColors;
 import com.pathtomani.game.ManiGame;
@@ -42,9 +42,8 @@ public class SpecialEffects {
   public final EffectConfig transcendentWork;
 
   public SpecialEffects(EffectTypes effectTypes, TextureManager textureManager, GameColors cols) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("specialEffects.json");
-    JsonValue node = r.parse(configFile);
+    JsonValue node = ContentCache.parseJson(configFile);
     mySmoke = EffectConfig.load(node.get("smoke"), effectTypes, textureManager, configFile, cols);
     myFire = EffectConfig.load(node.get("fire"), effectTypes, textureManager, configFile, cols);
     myElectricity = EffectConfig.load(node.get("electricity"), effectTypes, textureManager, configFile, cols);
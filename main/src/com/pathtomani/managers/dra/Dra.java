@@ -28,10 +28,13 @@ public interface Dra {
   Texture getTex0();
   TextureAtlas.AtlasRegion getTex();
   DraLevel getLevel();
+  // must not change while the dra is in the game, the draw order within a level depends on it
+  boolean isAdditive();
   // called on every update from manager
   void update(ManiGame game, ManiObject o);
-  // called on every draw from manager. after that, this dra should be able to return correct pos & radius
-  void prepare(ManiObject o);
+  // called on every draw from manager with the object pos & angle interpolated for this frame.
+  // after that, this dra should be able to return correct pos & radius
+  void prepare(ManiObject o, Vector2 basePos, float baseAngle);
   Vector2 getPos();
   Vector2 getRelPos();
   float getRadius();
@@ -23,24 +23,35 @@
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.OrderedMap;
 import com.pathtomani.common.DebugCol;
+import com.pathtomani.common.Profiler;
 import com.pathtomani.game.*;
 
 import java.util.*;
 
 public class DraMan {
   private final DraLevel[] myDlVals;
+  /**
+   * two texture buckets per level: the normal dras at level.ordinal() * 2, the additive ones right after them
+   */
   private final ArrayList<OrderedMap<Texture, List<Dra>>> myDras;
   private final Set<Dra> myInCam;
   private final GameDrawer myDrawer;
+  private final Vector2 myObjPos;
+  private final int[] myLevelScopes;
 
   public DraMan(GameDrawer drawer) {
     myDlVals = DraLevel.values();
     myDrawer = drawer;
     myDras = new ArrayList<OrderedMap<Texture, List<Dra>>>();
-    for (int i = 0, sz = myDlVals.length; i < sz; i++) {
+    for (int i = 0, sz = myDlVals.length * 2; i < sz; i++) {
       myDras.add(new OrderedMap<Texture, List<Dra>>());
     }
     myInCam = new HashSet<Dra>();
+    myObjPos = new Vector2();
+    myLevelScopes = new int[myDlVals.length];
+    for (int i = 0, sz = myDlVals.length; i < sz; i++) {
+      myLevelScopes[i] = Profiler.register("dra " + myDlVals[i].name().toLowerCase());
+    }
   }
 
   public void objRemoved(ManiObject o) {
@@ -51,8 +62,7 @@ public void objRemoved(ManiObject o) {
   public void removeAll(List<Dra> dras) {
     for (int i = 0, drasSize = dras.size(); i < drasSize; i++) {
       Dra dra = dras.get(i);
-      DraLevel l = dra.getLevel();
-      OrderedMap<Texture, List<Dra>> map = myDras.get(l.ordinal());
+      OrderedMap<Texture, List<Dra>> map = getBuckets(dra);
       Texture tex = dra.getTex0();
       List<Dra> set = map.get(tex);
       if (set == null) continue;
@@ -61,6 +71,10 @@ public void removeAll(List<Dra> dras) {
     }
   }
 
+  private OrderedMap<Texture, List<Dra>> getBuckets(Dra dra) {
+    return myDras.get(dra.getLevel().ordinal() * 2 + (dra.isAdditive() ? 1 : 0));
+  }
+
   public void objAdded(ManiObject o) {
     List<Dra> dras = o.getDras();
     addAll(dras);
@@ -69,8 +83,7 @@ public void objAdded(ManiObject o) {
   public void addAll(List<Dra> dras) {
     for (int i = 0, drasSize = dras.size(); i < drasSize; i++) {
       Dra dra = dras.get(i);
-      DraLevel l = dra.getLevel();
-      OrderedMap<Texture, List<Dra>> map = myDras.get(l.ordinal());
+      OrderedMap<Texture, List<Dra>> map = getBuckets(dra);
       Texture tex = dra.getTex0();
       List<Dra> set = map.get(tex);
       if (set == null) {
@@ -99,10 +112,13 @@ public void draw(ManiGame game) {
     float viewDist = cam.getViewDist();
 
     ObjectManager objectManager = game.getObjMan();
+    RenderInterpolator interpolator = objectManager.getInterpolator();
+    float alpha = game.getRenderAlpha();
     List<ManiObject> objs = objectManager.getObjs();
     for (int i1 = 0, objsSize = objs.size(); i1 < objsSize; i1++) {
       ManiObject o = objs.get(i1);
-      Vector2 objPos = o.getPosition();
+      Vector2 objPos = myObjPos;
+      float objAngle = interpolator.interpolate(o, alpha, objPos);
       float r = objectManager.getPresenceRadius(o);
       List<Dra> dras = o.getDras();
       float draLevelViewDist = viewDist;
@@ -114,7 +130,7 @@ public void draw(ManiGame game) {
           myInCam.remove(dra);
           continue;
         }
-        dra.prepare(o);
+        dra.prepare(o, objPos, objAngle);
         Vector2 draPos = dra.getPos();
         float rr = dra.getRadius();
         boolean draInCam = isInCam(draPos, rr, camPos, draLevelViewDist);
@@ -128,18 +144,22 @@ public void draw(ManiGame game) {
 
     for (int dlIdx = 0, dlCount = myDlVals.length; dlIdx < dlCount; dlIdx++) {
       DraLevel draLevel = myDlVals[dlIdx];
+      Profiler.begin(myLevelScopes[dlIdx]);
       if (draLevel == DraLevel.PART_FG_0) {
         game.getMountDetectDrawer().draw(myDrawer);
       }
-      OrderedMap<Texture, List<Dra>> map = myDras.get(dlIdx);
-      Array<Texture> texs = map.orderedKeys();
-      for (int texIdx = 0, sz = texs.size; texIdx < sz; texIdx++) {
-        Texture tex = texs.get(texIdx);
-        List<Dra> dras = map.get(tex);
-        for (int draIdx = 0, drasSize = dras.size(); draIdx < drasSize; draIdx++) {
-          Dra dra = dras.get(draIdx);
-          if (myInCam.contains(dra)) {
-            if (!DebugOptions.NO_DRAS) dra.draw(myDrawer, game);
+      // normal dras first, then the additive ones, so that the blend function changes at most twice per level
+      for (int blendIdx = 0; blendIdx < 2; blendIdx++) {
+        OrderedMap<Texture, List<Dra>> map = myDras.get(dlIdx * 2 + blendIdx);
+        Array<Texture> texs = map.orderedKeys();
+        for (int texIdx = 0, sz = texs.size; texIdx < sz; texIdx++) {
+          Texture tex = texs.get(texIdx);
+          List<Dra> dras = map.get(tex);
+          for (int draIdx = 0, drasSize = dras.size(); draIdx < drasSize; draIdx++) {
+            Dra dra = dras.get(draIdx);
+            if (myInCam.contains(dra)) {
+              if (!DebugOptions.NO_DRAS) dra.draw(myDrawer, game);
+            }
           }
         }
       }
@@ -152,6 +172,7 @@ public void draw(ManiGame game) {
           game.getPlanetMan().drawSunHack(game, myDrawer);
         }
       }
+      Profiler.end(myLevelScopes[dlIdx]);
     }
 
 
@@ -19,6 +19,7 @@
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.pathtomani.game.*;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.common.Const;
 import com.pathtomani.common.Consumed;
 import com.pathtomani.common.ManiMath;
@@ -27,6 +28,7 @@
 import java.util.List;
 
 public class DrasObject implements ManiObject {
+  private static final int ALLOC_COUNTER = AllocTracker.register("DrasObject");
   private final Vector2 myPos;
   private final Vector2 mySpd;
   private final RemoveController myRemoveController;
@@ -39,12 +41,13 @@ public class DrasObject implements ManiObject {
   private float myFadeTime;
 
   public DrasObject(List<Dra> dras, @Consumed Vector2 pos, @Consumed Vector2 spd, RemoveController removeController, boolean temporary, boolean hideOnPlanet) {
+    AllocTracker.count(ALLOC_COUNTER);
     myDras = dras;
     myPos = pos;
     mySpd = spd;
     myRemoveController = removeController;
     myHideOnPlanet = hideOnPlanet;
-    myMoveDiff = new Vector2();
+    myMoveDiff = AllocTracker.newVec();
     myTemporary = temporary;
 
     myMaxFadeTime = -1;
@@ -64,6 +67,10 @@ public void update(ManiGame game) {
       DraMan draMan = game.getDraMan();
       for (int i = 0, myDrasSize = myDras.size(); i < myDrasSize; i++) {
         Dra dra = myDras.get(i);
+        if (dra instanceof SpeckField) {
+          ((SpeckField) dra).setHiddenAround(npPos, npgh + Const.ATM_HEIGHT);
+          continue;
+        }
         if (!(dra instanceof RectSprite)) continue;
         if (!draMan.isInCam(dra)) continue;
         Vector2 draPos = dra.getPos();
@@ -77,6 +84,10 @@ public void update(ManiGame game) {
       float tintPerc = myFadeTime / myMaxFadeTime;
       for (int i = 0, myDrasSize = myDras.size(); i < myDrasSize; i++) {
         Dra dra = myDras.get(i);
+        if (dra instanceof SpeckField) {
+          ((SpeckField) dra).setAlphaPerc(tintPerc);
+          continue;
+        }
         if (!(dra instanceof RectSprite)) continue;
         RectSprite rs = (RectSprite) dra;
         rs.tint.a = ManiMath.clamp(tintPerc * rs.baseAlpha);
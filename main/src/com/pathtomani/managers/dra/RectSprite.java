@@ -20,6 +20,7 @@
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.AllocTracker;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.GameDrawer;
 import com.pathtomani.game.ManiGame;
@@ -27,6 +28,7 @@
 import com.pathtomani.common.Consumed;
 
 public class RectSprite implements Dra {
+  private static final int ALLOC_COUNTER = AllocTracker.register("RectSprite");
 
   public final Vector2 relPos;
   public final Color tint;
@@ -57,19 +59,20 @@ public RectSprite(TextureAtlas.AtlasRegion tex, float texSz, float origPercX, fl
     @Consumed Vector2 relPos, DraLevel level,
     float relAngle, float rotSpd, Color tint, boolean additive) {
     if (tex == null) throw new AssertionError("tex is null");
+    AllocTracker.count(ALLOC_COUNTER);
     myTex = tex;
     myOrigPercX = origPercX;
     myOrigPercY = origPercY;
 
     this.relPos = relPos;
-    myPos = new Vector2();
+    myPos = AllocTracker.newVec();
     myLevel = level;
     this.relAngle = relAngle;
     myRotSpd = rotSpd;
 
     myEnabled = true;
     baseAlpha = tint.a;
-    this.tint = new Color(tint);
+    this.tint = AllocTracker.newColor(tint);
 
     setTexSz(texSz);
     myAdditive = additive;
@@ -102,6 +105,11 @@ public TextureAtlas.AtlasRegion getTex() {
     return myTex;
   }
 
+  @Override
+  public boolean isAdditive() {
+    return myAdditive;
+  }
+
   public DraLevel getLevel() {
     return myLevel;
   }
@@ -110,9 +118,7 @@ public void update(ManiGame game, ManiObject o) {
     relAngle += myRotSpd * game.getTimeStep();
   }
 
-  public void prepare(ManiObject o) {
-    float baseAngle = o.getAngle();
-    Vector2 basePos = o.getPosition();
+  public void prepare(ManiObject o, Vector2 basePos, float baseAngle) {
     ManiMath.toWorld(myPos, relPos, baseAngle, basePos, false);
     myAngle = relAngle + baseAngle;
   }
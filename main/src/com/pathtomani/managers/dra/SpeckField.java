@@ -0,0 +1,267 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.managers.dra;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.pathtomani.common.AllocTracker;
+import com.pathtomani.common.Const;
+import com.pathtomani.common.ManiMath;
+import com.pathtomani.game.GameDrawer;
+import com.pathtomani.game.ManiGame;
+import com.pathtomani.game.ManiObject;
+
+/**
+ * Many small sprites of the same level, texture page and tint, like the dust or the junk of a chunk, kept in
+ * primitive arrays and drawn as a single dra. The specks can rotate and drift on their own, relative to the object.
+ * Specks are added with {@link #add} before the dra is given to an object.
+ */
+public class SpeckField implements Dra {
+  private static final int ALLOC_COUNTER = AllocTracker.register("SpeckField");
+  private final Texture myTex0;
+  private final DraLevel myLevel;
+  private final Color myTint;
+  private final Color myDrawTint;
+  private final float myBaseAlpha;
+  private final Vector2 myPos;
+  private final Vector2 myHidePos;
+
+  private TextureAtlas.AtlasRegion[] myTexs;
+  private float[] myRelX;
+  private float[] myRelY;
+  private float[] mySzX;
+  private float[] mySzY;
+  private float[] myAngles;
+  private float[] myRotSpds;
+  private float[] mySpdX;
+  private float[] mySpdY;
+  private int mySize;
+  private boolean myMoving;
+
+  private float myBaseX;
+  private float myBaseY;
+  private float myBaseAngle;
+  private float myMaxSpeckRadius;
+  private float myRadius;
+  private float myHideDist;
+
+  /**
+   * doesn't consume Color
+   */
+  public SpeckField(Texture tex0, DraLevel level, Color tint, int capacity) {
+    AllocTracker.count(ALLOC_COUNTER);
+    myTex0 = tex0;
+    myLevel = level;
+    myTint = AllocTracker.newColor(tint);
+    myDrawTint = AllocTracker.newColor(tint);
+    myBaseAlpha = tint.a;
+    myPos = AllocTracker.newVec();
+    myHidePos = AllocTracker.newVec();
+    myHideDist = -1;
+
+    capacity = Math.max(capacity, 1);
+    myTexs = new TextureAtlas.AtlasRegion[capacity];
+    myRelX = new float[capacity];
+    myRelY = new float[capacity];
+    mySzX = new float[capacity];
+    mySzY = new float[capacity];
+    myAngles = new float[capacity];
+    myRotSpds = new float[capacity];
+    mySpdX = new float[capacity];
+    mySpdY = new float[capacity];
+  }
+
+  /**
+   * Adds a speck centered at the given position relative to the object. The texture must be on the page of the field.
+   */
+  public void add(TextureAtlas.AtlasRegion tex, float texSz, float relX, float relY, float angle, float rotSpd,
+    float spdX, float spdY)
+  {
+    if (tex.getTexture() != myTex0) throw new AssertionError("speck texture is not on the field's page");
+    if (mySize == myTexs.length) grow();
+    int i = mySize++;
+    texSz /= myLevel.depth;
+    int r = tex.getRegionWidth() / tex.getRegionHeight();
+    if (r > 1) {
+      mySzX[i] = texSz;
+      mySzY[i] = texSz / r;
+    } else {
+      mySzX[i] = texSz / r;
+      mySzY[i] = texSz;
+    }
+    myTexs[i] = tex;
+    myRelX[i] = relX;
+    myRelY[i] = relY;
+    myAngles[i] = angle;
+    myRotSpds[i] = rotSpd;
+    mySpdX[i] = spdX;
+    mySpdY[i] = spdY;
+    if (spdX != 0 || spdY != 0) myMoving = true;
+
+    float speckRadius = ManiMath.sqrt(mySzX[i] * mySzX[i] + mySzY[i] * mySzY[i]) / 2;
+    if (myMaxSpeckRadius < speckRadius) myMaxSpeckRadius = speckRadius;
+    float rr = ManiMath.sqrt(relX * relX + relY * relY) + speckRadius;
+    if (myRadius < rr) myRadius = rr;
+  }
+
+  private void grow() {
+    int capacity = myTexs.length * 2;
+    TextureAtlas.AtlasRegion[] texs = new TextureAtlas.AtlasRegion[capacity];
+    System.arraycopy(myTexs, 0, texs, 0, mySize);
+    myTexs = texs;
+    myRelX = copyOf(myRelX, capacity);
+    myRelY = copyOf(myRelY, capacity);
+    mySzX = copyOf(mySzX, capacity);
+    mySzY = copyOf(mySzY, capacity);
+    myAngles = copyOf(myAngles, capacity);
+    myRotSpds = copyOf(myRotSpds, capacity);
+    mySpdX = copyOf(mySpdX, capacity);
+    mySpdY = copyOf(mySpdY, capacity);
+  }
+
+  private float[] copyOf(float[] arr, int capacity) {
+    float[] res = new float[capacity];
+    System.arraycopy(arr, 0, res, 0, mySize);
+    return res;
+  }
+
+  public int getSize() {
+    return mySize;
+  }
+
+  @Override
+  public Texture getTex0() {
+    return myTex0;
+  }
+
+  @Override
+  public TextureAtlas.AtlasRegion getTex() {
+    return mySize == 0 ? null : myTexs[0];
+  }
+
+  @Override
+  public DraLevel getLevel() {
+    return myLevel;
+  }
+
+  @Override
+  public boolean isAdditive() {
+    return false;
+  }
+
+  @Override
+  public void update(ManiGame game, ManiObject o) {
+    float ts = game.getTimeStep();
+    float radius = 0;
+    for (int i = 0; i < mySize; i++) {
+      myAngles[i] += myRotSpds[i] * ts;
+      if (!myMoving) continue;
+      float x = myRelX[i] + mySpdX[i] * ts;
+      float y = myRelY[i] + mySpdY[i] * ts;
+      myRelX[i] = x;
+      myRelY[i] = y;
+      float len2 = x * x + y * y;
+      if (radius < len2) radius = len2;
+    }
+    // drifting specks can leave the chunk, the field has to stay in cam while any of them is seen
+    if (myMoving) myRadius = ManiMath.sqrt(radius) + myMaxSpeckRadius;
+  }
+
+  @Override
+  public void prepare(ManiObject o, Vector2 basePos, float baseAngle) {
+    myPos.set(basePos);
+    myBaseX = basePos.x;
+    myBaseY = basePos.y;
+    myBaseAngle = baseAngle;
+  }
+
+  @Override
+  public Vector2 getPos() {
+    return myPos;
+  }
+
+  @Override
+  public Vector2 getRelPos() {
+    return Vector2.Zero;
+  }
+
+  @Override
+  public float getRadius() {
+    return myRadius;
+  }
+
+  /**
+   * Sets the alpha of all the specks, as a share of the tint's alpha
+   */
+  public void setAlphaPerc(float perc) {
+    myTint.a = ManiMath.clamp(perc * myBaseAlpha);
+  }
+
+  /**
+   * The specks closer to the given planet than hideDist are hidden, with a gradient outside of it
+   */
+  public void setHiddenAround(Vector2 planetPos, float hideDist) {
+    myHidePos.set(planetPos);
+    myHideDist = hideDist;
+  }
+
+  @Override
+  public void draw(GameDrawer drawer, ManiGame game) {
+    Vector2 camPos = game.getCam().getPos();
+    float viewDist = game.getCam().getViewDist() * myLevel.depth;
+    float depth = myLevel.depth;
+    boolean rotated = myBaseAngle != 0;
+    float cos = rotated ? ManiMath.cos(myBaseAngle) : 1;
+    float sin = rotated ? ManiMath.sin(myBaseAngle) : 0;
+    float gradSz = .25f * Const.ATM_HEIGHT;
+    myDrawTint.set(myTint);
+    for (int i = 0; i < mySize; i++) {
+      float relX = myRelX[i];
+      float relY = myRelY[i];
+      float x = myBaseX + relX * cos - relY * sin;
+      float y = myBaseY + relX * sin + relY * cos;
+      float dx = x - camPos.x;
+      float dy = y - camPos.y;
+      float r = viewDist + myMaxSpeckRadius;
+      if (dx * dx + dy * dy > r * r) continue;
+      if (myHideDist > 0) {
+        float distPerc = (myHidePos.dst(x, y) - myHideDist) / gradSz;
+        myDrawTint.a = myTint.a * ManiMath.clamp(distPerc);
+        if (myDrawTint.a <= 0) continue;
+      }
+      if (depth != 1) {
+        x = dx / depth + camPos.x;
+        y = dy / depth + camPos.y;
+      }
+      float szX = mySzX[i];
+      float szY = mySzY[i];
+      drawer.draw(myTexs[i], szX, szY, szX / 2, szY / 2, x, y, myAngles[i] + myBaseAngle, myDrawTint);
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return mySize > 0;
+  }
+
+  @Override
+  public boolean okToRemove() {
+    return true;
+  }
+}
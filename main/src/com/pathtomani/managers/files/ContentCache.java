@@ -0,0 +1,269 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.managers.files;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.pathtomani.game.DebugOptions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches parsed json config files in a compact binary form, so that later launches don't have to parse the text again.
+ * Each cache file is named after the hash of the json content, so an edited config simply gets a new cache file,
+ * and the entry of the old content is removed by {@link #pruneStale}.
+ * Files can also be preloaded on other threads, see {@link ContentPrefetcher}.
+ */
+public final class ContentCache {
+
+    /**
+     * Returns the parsed content of a json file, from the binary cache if there is an entry for the file's content.
+     * @param file The json file.
+     * @return The root node of the parsed json.
+     */
+    public static JsonValue parseJson(FileHandle file) {
+        JsonValue preloaded = PRELOADED.remove(file.path());
+        if (preloaded != null) {
+            return preloaded;
+        }
+        return load(file);
+    }
+
+    /**
+     * Parses a json file ahead of time, the next {@link #parseJson} call for the file returns the result.
+     * Safe to call from any thread.
+     * @param file The json file.
+     */
+    public static void preload(FileHandle file) {
+        PRELOADED.put(file.path(), load(file));
+    }
+
+    /**
+     * Drops the preloaded files that weren't asked for.
+     */
+    public static void clearPreloaded() {
+        PRELOADED.clear();
+    }
+
+    /**
+     * Removes the cache entries that none of the files loaded since the launch hash to.
+     * Must be called only after all the current content has been loaded, otherwise its entries are just rebuilt.
+     */
+    public static void pruneStale() {
+        FileHandle dir = FileManager.getInstance().getDynamicFile(CACHE_DIR);
+        if (!dir.isDirectory()) {
+            return;
+        }
+        for (FileHandle entry : dir.list(ENTRY_SUFFIX)) {
+            if (!USED_ENTRIES.contains(entry.name())) {
+                entry.delete();
+            }
+        }
+    }
+
+    private static JsonValue load(FileHandle file) {
+        byte[] content = file.readBytes();
+        if (!DebugOptions.CONTENT_CACHE) {
+            return parseText(content);
+        }
+
+        String entryName = Long.toHexString(hash(content)) + ENTRY_SUFFIX;
+        USED_ENTRIES.add(entryName);
+        FileHandle cacheFile = FileManager.getInstance().getDynamicFile(CACHE_DIR + entryName);
+        if (cacheFile.exists()) {
+            try {
+                ByteBuffer buf = ByteBuffer.wrap(cacheFile.readBytes());
+                if (buf.getInt() == MAGIC) {
+                    return readNode(buf);
+                }
+            } catch (RuntimeException ignored) {
+                // a truncated or unreadable entry is just rebuilt
+            }
+        }
+
+        JsonValue res = parseText(content);
+        try {
+            // files with the same content share the entry, so it's moved in place only when complete
+            FileHandle tmpFile = cacheFile.sibling(cacheFile.name() + "." + Thread.currentThread().getId() + ".tmp");
+            tmpFile.writeBytes(toBytes(res), false);
+            tmpFile.moveTo(cacheFile);
+        } catch (GdxRuntimeException ignored) {
+            // the cache directory may not be writable, the cache is optional
+        }
+        return res;
+    }
+
+    private static JsonValue parseText(byte[] content) {
+        return new JsonReader().parse(new String(content, UTF8));
+    }
+
+    /**
+     * 64-bit FNV-1a
+     */
+    private static long hash(byte[] content) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : content) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static byte[] toBytes(JsonValue root) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(MAGIC);
+            writeNode(out, root);
+            out.flush();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeNode(DataOutputStream out, JsonValue node) throws IOException {
+        writeString(out, node.name());
+        switch (node.type()) {
+            case object:
+            case array:
+                out.writeByte(node.isObject() ? OBJECT : ARRAY);
+                out.writeInt(node.size);
+                for (JsonValue child = node.child; child != null; child = child.next) {
+                    writeNode(out, child);
+                }
+                break;
+            case stringValue:
+                out.writeByte(STRING);
+                writeString(out, node.asString());
+                break;
+            // the text of a number is kept too, asString() returns it as written in the file
+            case doubleValue:
+                out.writeByte(DOUBLE);
+                out.writeDouble(node.asDouble());
+                writeString(out, node.asString());
+                break;
+            case longValue:
+                out.writeByte(LONG);
+                out.writeLong(node.asLong());
+                writeString(out, node.asString());
+                break;
+            case booleanValue:
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(node.asBoolean());
+                break;
+            default:
+                out.writeByte(NULL);
+        }
+    }
+
+    private static JsonValue readNode(ByteBuffer buf) {
+        String name = readString(buf);
+        JsonValue node;
+        byte type = buf.get();
+        switch (type) {
+            case OBJECT:
+            case ARRAY:
+                node = new JsonValue(type == OBJECT ? JsonValue.ValueType.object : JsonValue.ValueType.array);
+                int size = buf.getInt();
+                JsonValue prev = null;
+                for (int i = 0; i < size; i++) {
+                    JsonValue child = readNode(buf);
+                    if (prev == null) {
+                        node.child = child;
+                    } else {
+                        prev.next = child;
+                        child.prev = prev;
+                    }
+                    prev = child;
+                }
+                node.size = size;
+                break;
+            case STRING:
+                node = new JsonValue(readString(buf));
+                break;
+            case DOUBLE:
+                double d = buf.getDouble();
+                node = new JsonValue(d, readString(buf));
+                break;
+            case LONG:
+                long l = buf.getLong();
+                node = new JsonValue(l, readString(buf));
+                break;
+            case BOOLEAN:
+                node = new JsonValue(buf.get() != 0);
+                break;
+            case NULL:
+                node = new JsonValue(JsonValue.ValueType.nullValue);
+                break;
+            default:
+                throw new IllegalStateException("Unknown node type " + type);
+        }
+        node.setName(name);
+        return node;
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(UTF8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int len = buf.getInt();
+        if (len < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, UTF8);
+    }
+
+    private ContentCache() {
+
+    }
+
+    // bump the last byte when the format changes
+    private final static int MAGIC = 0x4d434302;
+    private final static String CACHE_DIR = "cache/content/";
+    private final static String ENTRY_SUFFIX = ".bin";
+    private final static Charset UTF8 = Charset.forName("UTF-8");
+    private final static Map<String, JsonValue> PRELOADED = new ConcurrentHashMap<String, JsonValue>();
+    private final static Set<String> USED_ENTRIES = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private final static byte OBJECT = 0;
+    private final static byte ARRAY = 1;
+    private final static byte STRING = 2;
+    private final static byte DOUBLE = 3;
+    private final static byte LONG = 4;
+    private final static byte BOOLEAN = 5;
+    private final static byte NULL = 6;
+}
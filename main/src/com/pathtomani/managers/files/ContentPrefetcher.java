@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.managers.files;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads and parses the json configs and path models on a pool of worker threads while the loading screen is shown.
+ * The configs don't depend on each other at this stage, so all of them are parsed in parallel. The game still builds
+ * its managers on the render thread, where the textures and sounds are created, but takes the parsed json
+ * from {@link ContentCache} instead of reading the files.
+ */
+public final class ContentPrefetcher {
+
+    /**
+     * Starts listing and parsing the files in the background.
+     */
+    public void start() {
+        if (pool != null) {
+            throw new AssertionError("Content prefetch already started");
+        }
+        pool = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors()), THREAD_FACTORY);
+        pool.execute(new Runnable() {
+            @Override
+            public void run() {
+                List<FileHandle> files = new ArrayList<FileHandle>();
+                try {
+                    FileManager fileManager = FileManager.getInstance();
+                    listJson(fileManager.getConfigDirectory(), files);
+                    listJson(fileManager.getAssetsDirectory().child(PATHS_DIR), files);
+                } catch (RuntimeException ignored) {
+                    // nothing is prefetched, the game parses the files itself when it asks for them
+                    files.clear();
+                    failed = true;
+                } finally {
+                    total = files.size();
+                    listed = true;
+                }
+                for (final FileHandle file : files) {
+                    pool.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                ContentCache.preload(file);
+                            } catch (RuntimeException ignored) {
+                                // the file is parsed again when the game asks for it, and the error is reported then
+                                failed = true;
+                            } finally {
+                                // once all the current content has been hashed, the cache entries of old content can go
+                                if (done.incrementAndGet() == total && !failed) {
+                                    ContentCache.pruneStale();
+                                }
+                            }
+                        }
+                    });
+                }
+                pool.shutdown();
+            }
+        });
+    }
+
+    /**
+     * Returns how much of the content has been parsed.
+     * @return A value between 0 and 1.
+     */
+    public float getProgress() {
+        if (!listed) {
+            return 0;
+        }
+        return total == 0 ? 1 : (float) done.get() / total;
+    }
+
+    /**
+     * Returns whether all the files have been parsed.
+     * @return True if the game can be built.
+     */
+    public boolean isDone() {
+        return listed && done.get() == total;
+    }
+
+    private static void listJson(FileHandle dir, List<FileHandle> res) {
+        for (FileHandle file : dir.list()) {
+            if (file.isDirectory()) {
+                listJson(file, res);
+            } else if (JSON_EXTENSION.equals(file.extension())) {
+                res.add(file);
+            }
+        }
+    }
+
+    private ExecutorService pool;
+    private volatile boolean listed;
+    private volatile int total;
+    private volatile boolean failed;
+    private final AtomicInteger done = new AtomicInteger();
+
+    private final static String PATHS_DIR = "paths";
+    private final static String JSON_EXTENSION = "json";
+    private final static ThreadFactory THREAD_FACTORY = new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "content-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+}
@@ -18,7 +18,6 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.entities.item.EngineItem;
@@ -148,8 +147,7 @@ private void parseGunSlotList(JsonValue containerNode, HullConfig.Data configDat
     }
 
     private void readProperties(FileHandle propertiesFile, HullConfig.Data configData) {
-        JsonReader jsonReader = new JsonReader();
-        JsonValue jsonNode = jsonReader.parse(propertiesFile);
+        JsonValue jsonNode = ContentCache.parseJson(propertiesFile);
 
         configData.size = jsonNode.getFloat("size");
         configData.approxRadius = 0.4f * configData.size;
@@ -19,6 +19,8 @@
 import com.badlogic.gdx.math.Vector2;
 import com.pathtomani.common.ManiMath;
 import com.pathtomani.game.ManiGame;
+import com.pathtomani.entities.maze.Maze;
+import com.pathtomani.entities.maze.MazeFlowField;
 import com.pathtomani.entities.planet.Planet;
 import com.pathtomani.entities.ship.ManiShip;
 import com.pathtomani.common.Const;
@@ -126,6 +128,8 @@ public void rotateOnIdle(ManiShip ship, Planet np, Vector2 dest, boolean stopNea
 
   private float getToDestAngle(ManiGame game, ManiShip ship, Vector2 dest, boolean avoidBigObjs, Planet np) {
     Vector2 shipPos = ship.getPosition();
+    float flowAngle = getMazeFlowAngle(game, shipPos, dest);
+    if (flowAngle == flowAngle) return flowAngle;
     float toDestAngle = ManiMath.angle(shipPos, dest);
     if (avoidBigObjs) {
       toDestAngle = myBigObjAvoider.avoid(game, shipPos, dest, toDestAngle);
@@ -134,6 +138,17 @@ private float getToDestAngle(ManiGame game, ManiShip ship, Vector2 dest, boolean
     return toDestAngle;
   }
 
+  /**
+   * @return the angle suggested by the nearest maze flow field, or NaN if the ship is not navigating through a maze
+   */
+  private float getMazeFlowAngle(ManiGame game, Vector2 shipPos, Vector2 dest) {
+    Maze maze = game.getPlanetMan().getNearestMaze(shipPos);
+    if (maze == null || maze.getRadius() < maze.getPos().dst(shipPos)) return Float.NaN;
+    MazeFlowField flowField = maze.getFlowField();
+    if (flowField == null) return Float.NaN;
+    return flowField.getToDestAngle(shipPos, dest);
+  }
+
   public static Boolean needsToTurn(float angle, float destAngle, float rotSpd, float rotAcc, float allowedAngleDiff) {
     if (ManiMath.angleDiff(destAngle, angle) < allowedAngleDiff || rotAcc == 0) return null;
 
@@ -18,9 +18,9 @@
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.pathtomani.common.Const;
+import com.pathtomani.managers.files.ContentCache;
 import com.pathtomani.managers.files.FileManager;
 import com.pathtomani.game.DmgType;
 import com.pathtomani.game.ManiGame;
@@ -49,9 +49,8 @@ public class SpecialSounds {
   public final ManiSound transcendentMove;
 
   public SpecialSounds(SoundManager soundManager) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("specialSounds.json");
-    JsonValue node = r.parse(configFile);
+    JsonValue node = ContentCache.parseJson(configFile);
     metalColl = soundManager.getSound(node.getString("metalCollision"), configFile);
     metalBulletHit = soundManager.getPitchedSound(node.getString("metalBulletHit"), configFile, 1.1f);
     metalEnergyHit = soundManager.getSound(node.getString("metalEnergyHit"), configFile);
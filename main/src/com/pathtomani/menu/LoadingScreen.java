@@ -18,6 +18,7 @@
 
 import com.pathtomani.ManiApplication;
 import com.pathtomani.gfx.ManiColor;
+import com.pathtomani.managers.files.ContentPrefetcher;
 import com.pathtomani.ui.*;
 
 import java.util.ArrayList;
@@ -27,6 +28,8 @@ public class LoadingScreen implements ManiUiScreen {
   private final ArrayList<ManiUiControl> myControls;
   private boolean myTut;
   private boolean myUsePrevShip;
+  private ContentPrefetcher myPrefetcher;
+  private boolean myDoneShown;
 
   public LoadingScreen() {
     myControls = new ArrayList<ManiUiControl>();
@@ -39,10 +42,20 @@ public List<ManiUiControl> getControls() {
 
   @Override
   public void onAdd(ManiApplication cmp) {
+    myPrefetcher = new ContentPrefetcher();
+    myPrefetcher.start();
+    myDoneShown = false;
   }
 
   @Override
   public void updateCustom(ManiApplication cmp, ManiInputManager.Ptr[] ptrs, boolean clickedOutside) {
+    if (!myPrefetcher.isDone()) return;
+    // let the full progress be drawn once, building the game takes a while
+    if (!myDoneShown) {
+      myDoneShown = true;
+      return;
+    }
+    myPrefetcher = null;
     cmp.startNewGame(myTut, myUsePrevShip);
   }
 
@@ -65,7 +78,8 @@ public void drawImgs(UiDrawer uiDrawer, ManiApplication cmp) {
 
   @Override
   public void drawText(UiDrawer uiDrawer, ManiApplication cmp) {
-    uiDrawer.drawString("Loading...", uiDrawer.r/2, .5f, FontSize.MENU, true, ManiColor.W);
+    int perc = myPrefetcher == null ? 100 : (int) (myPrefetcher.getProgress() * 100);
+    uiDrawer.drawString("Loading... " + perc + "%", uiDrawer.r/2, .5f, FontSize.MENU, true, ManiColor.W);
   }
 
   @Override
@@ -28,13 +28,16 @@
 public class DebugCollector {
   private static final long WARN_TIME = 6000;
   private static final StringBuilder myDebugStrings = new StringBuilder();
+  private static String myDebugString = "";
   private static final Map<String, Long> myWarnings = new HashMap<String, Long>();
 
   private DebugCollector() {
   }
 
   public static void draw(UiDrawer drawer) {
-    drawer.drawString(myDebugStrings.toString(), .5f, BorderDrawer.TISHCH_SZ, FontSize.DEBUG, false, ManiColor.W);
+    // the same string is kept while the content doesn't change, so that it isn't allocated and laid out every frame
+    if (!myDebugString.contentEquals(myDebugStrings)) myDebugString = myDebugStrings.toString();
+    drawer.drawString(myDebugString, .5f, BorderDrawer.TISHCH_SZ, FontSize.DEBUG, false, ManiColor.W);
   }
 
   public static void debug(String name, String val) {
@@ -52,6 +55,7 @@ public static void warn(String msg) {
 
   public static void update() {
     myDebugStrings.setLength(0);
+    if (myWarnings.isEmpty()) return;
 
     Iterator<Map.Entry<String, Long>> it = myWarnings.entrySet().iterator();
     long now = TimeUtils.millis();
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 BurntGameProductions
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pathtomani.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.pathtomani.common.Profiler;
+import com.pathtomani.gfx.ManiColor;
+
+/**
+ * Draws the {@link Profiler} results: a flame bar of the latest frame, one row per nesting depth, scaled so that
+ * the full bar width is one 60 fps frame, and a table with the median, 95th percentile and maximum of each scope.
+ */
+public class ProfilerOverlay {
+  private static final float FRAME_BUDGET = 1e9f / 60;
+  private static final float X = .02f;
+  private static final float Y = .1f;
+  private static final float BAR_W = .6f;
+  private static final float ROW_H = .015f;
+  private static final float LINE_H = .018f;
+  private static final Color[] PALETTE = {
+    new Color(.9f, .4f, .2f, .8f),
+    new Color(.9f, .7f, .2f, .8f),
+    new Color(.5f, .8f, .3f, .8f),
+    new Color(.3f, .7f, .9f, .8f),
+    new Color(.6f, .4f, .9f, .8f),
+    new Color(.9f, .4f, .7f, .8f),
+  };
+
+  private final StringBuilder myTable;
+  private String myTableStr;
+
+  public ProfilerOverlay() {
+    myTable = new StringBuilder();
+    myTableStr = "";
+  }
+
+  public void draw(UiDrawer uiDrawer) {
+    if (!Profiler.isEnabled()) return;
+    int scopeCount = Profiler.getScopeCount();
+    int maxDepth = 0;
+    for (int i = 0; i < scopeCount; i++) {
+      maxDepth = Math.max(maxDepth, Profiler.getDepth(i));
+    }
+    float barsH = (maxDepth + 1) * ROW_H;
+    uiDrawer.draw(uiDrawer.whiteTex, BAR_W, barsH, 0, 0, X, Y, 0, ManiColor.UI_BG);
+
+    myTable.setLength(0);
+    myTable.append("frame ");
+    appendMs(Profiler.getLastFrameTime());
+    myTable.append("\nscope: p50 / p95 / max, ms\n");
+    for (int i = 0; i < scopeCount; i++) {
+      int depth = Profiler.getDepth(i);
+      if (depth < 0) continue;
+      long start = Profiler.getLastStart(i);
+      if (0 <= start) {
+        float x = Math.min(start / FRAME_BUDGET, 1) * BAR_W;
+        float w = Math.min(Profiler.getLast(i) / FRAME_BUDGET * BAR_W, BAR_W - x);
+        if (w > 0) uiDrawer.draw(uiDrawer.whiteTex, w, ROW_H, 0, 0, X + x, Y + depth * ROW_H, 0, PALETTE[i % PALETTE.length]);
+      }
+      for (int d = 0; d < depth; d++) {
+        myTable.append("  ");
+      }
+      myTable.append(Profiler.getName(i)).append(": ");
+      appendMs(Profiler.getPercentile(i, .5f));
+      myTable.append(" / ");
+      appendMs(Profiler.getPercentile(i, .95f));
+      myTable.append(" / ");
+      appendMs(Profiler.getPercentile(i, 1));
+      myTable.append('\n');
+    }
+    if (!myTableStr.contentEquals(myTable)) myTableStr = myTable.toString();
+    uiDrawer.drawString(myTableStr, X, Y + barsH + LINE_H, FontSize.DEBUG, false, ManiColor.W);
+  }
+
+  private void appendMs(long nanos) {
+    long hundredths = nanos / 10000;
+    myTable.append(hundredths / 100).append('.');
+    long frac = hundredths % 100;
+    if (frac < 10) myTable.append('0');
+    myTable.append(frac);
+  }
+}